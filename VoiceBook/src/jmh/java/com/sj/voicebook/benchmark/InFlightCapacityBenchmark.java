@@ -0,0 +1,155 @@
+package com.sj.voicebook.benchmark;
+
+import com.sj.voicebook.global.config.AsyncConfig;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.autoconfigure.web.embedded.TomcatVirtualThreadsWebServerFactoryCustomizer;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServer;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 플랫폼 스레드 모드와 가상 스레드 모드에서 한 노드가 동시에 붙잡고 있을 수 있는 요청 수 비교
+ * 실제 embedded Tomcat(Spring Boot와 같은 설정)에 inFlight 개 요청을 한 번에 보낸다.
+ * 부하 프로필: 요청마다 blockingMillis 만큼 DB/Redis 호출을 흉내 내 블로킹한 뒤,
+ * AsyncConfig.emailExecutor 에 메일 전송(smtpMillis 블로킹)을 넘기고 응답한다.
+ * - ms/op: inFlight 개 요청이 모두 끝나는 시간, blockingMillis 에 가까울수록 모두 동시에 처리된 것
+ * - rejected: emailExecutor 가 받지 못해 503으로 끝난 요청 수
+ * ./gradlew jmh -PjmhIncludes=InFlightCapacityBenchmark 결과는 build/results/jmh/results.json 에 저장된다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class InFlightCapacityBenchmark {
+
+    @Param({"platform", "virtual"})
+    private String mode;
+
+    @Param({"200", "1000", "2000"})
+    private int inFlight;
+
+    @Param({"20"})
+    private long blockingMillis;
+
+    @Param({"50"})
+    private long smtpMillis;
+
+    private WebServer webServer;
+    private ExecutorService clientExecutor;
+    private HttpClient httpClient;
+    private HttpRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        boolean virtual = "virtual".equals(mode);
+        AsyncConfig asyncConfig = new AsyncConfig();
+        ReflectionTestUtils.setField(asyncConfig, "virtualThreadsEnabled", virtual);
+        Executor emailExecutor = asyncConfig.emailExecutor(10, 100);
+
+        TomcatServletWebServerFactory factory = new TomcatServletWebServerFactory(0);
+        if (virtual) {
+            // spring.threads.virtual.enabled=true 일 때 Spring Boot가 적용하는 설정
+            new TomcatVirtualThreadsWebServerFactoryCustomizer().customize(factory);
+        }
+        webServer = factory.getWebServer(servletContext -> servletContext
+                .addServlet("load", new LoadServlet(emailExecutor, blockingMillis, smtpMillis))
+                .addMapping("/load"));
+        webServer.start();
+
+        clientExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        httpClient = HttpClient.newBuilder()
+                .executor(clientExecutor)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        request = HttpRequest.newBuilder(URI.create("http://localhost:" + webServer.getPort() + "/load")).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        webServer.stop();
+        clientExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public void serveConcurrentRequests(Results results) {
+        CompletableFuture<?>[] responses = new CompletableFuture<?>[inFlight];
+        for (int i = 0; i < inFlight; i++) {
+            responses[i] = httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .thenAccept(response -> {
+                        if (response.statusCode() == HttpServletResponse.SC_SERVICE_UNAVAILABLE) {
+                            results.countRejected();
+                        }
+                    });
+        }
+        CompletableFuture.allOf(responses).join();
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Results {
+
+        public long rejected;
+
+        synchronized void countRejected() {
+            rejected++;
+        }
+    }
+
+    private static class LoadServlet extends HttpServlet {
+
+        private final transient Executor emailExecutor;
+        private final long blockingMillis;
+        private final long smtpMillis;
+
+        LoadServlet(Executor emailExecutor, long blockingMillis, long smtpMillis) {
+            this.emailExecutor = emailExecutor;
+            this.blockingMillis = blockingMillis;
+            this.smtpMillis = smtpMillis;
+        }
+
+        @Override
+        protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+            sleep(blockingMillis);
+            try {
+                emailExecutor.execute(() -> sleep(smtpMillis));
+            } catch (TaskRejectedException e) {
+                resp.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+                return;
+            }
+            resp.setStatus(HttpServletResponse.SC_OK);
+        }
+
+        private static void sleep(long millis) {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
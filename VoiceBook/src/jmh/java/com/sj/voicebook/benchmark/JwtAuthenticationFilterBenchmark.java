@@ -0,0 +1,67 @@
+package com.sj.voicebook.benchmark;
+
+import com.sj.voicebook.global.jwt.JwtAuthenticationFilter;
+import com.sj.voicebook.global.jwt.JwtTokenProvider;
+import com.sj.voicebook.global.jwt.VerifiedTokenCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mock 요청에 대한 JwtAuthenticationFilter 전체 실행 처리량 측정
+ * cacheMaximumSize=0 이면 매 요청 서명 검증을 수행하는 경우와 같다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+    };
+
+    @Param({"0", "10000"})
+    private long cacheMaximumSize;
+
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(
+                JwtTokenProviderBenchmark.SECRET, 3_600_000L, 604_800_000L);
+        VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(
+                jwtTokenProvider, new SimpleMeterRegistry(), cacheMaximumSize);
+        filter = new JwtAuthenticationFilter(verifiedTokenCache);
+
+        String accessToken = jwtTokenProvider.createAccessToken(1L, "user@voicebook.com", "ROLE_USER");
+        request = new MockHttpServletRequest("GET", "/api/members/me");
+        request.addHeader("Authorization", "Bearer " + accessToken);
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public Authentication doFilter() throws ServletException, IOException {
+        try {
+            filter.doFilter(request, response, NO_OP_CHAIN);
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.sj.voicebook.benchmark;
+
+import com.sj.voicebook.global.jwt.JwtPrincipal;
+import com.sj.voicebook.global.jwt.JwtTokenProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtTokenProvider 토큰 발급/검증/클레임 추출 처리량 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtTokenProviderBenchmark {
+
+    static final String SECRET = "voicebook-benchmark-secret-key-which-is-long-enough-for-hs512-signing";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(SECRET, 3_600_000L, 604_800_000L);
+        accessToken = jwtTokenProvider.createAccessToken(1L, "user@voicebook.com", "ROLE_USER");
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return jwtTokenProvider.createAccessToken(1L, "user@voicebook.com", "ROLE_USER");
+    }
+
+    @Benchmark
+    public String createRefreshToken() {
+        return jwtTokenProvider.createRefreshToken(1L);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtTokenProvider.validateToken(accessToken);
+    }
+
+    /**
+     * 기존 필터 방식: 클레임마다 파싱/서명 검증을 반복
+     */
+    @Benchmark
+    public void extractClaimsSeparately(Blackhole blackhole) {
+        blackhole.consume(jwtTokenProvider.getUserId(accessToken));
+        blackhole.consume(jwtTokenProvider.getEmail(accessToken));
+        blackhole.consume(jwtTokenProvider.getRole(accessToken));
+    }
+
+    /**
+     * 한 번의 파싱으로 모든 클레임 추출
+     */
+    @Benchmark
+    public JwtPrincipal parsePrincipal() {
+        return jwtTokenProvider.parsePrincipal(accessToken);
+    }
+}
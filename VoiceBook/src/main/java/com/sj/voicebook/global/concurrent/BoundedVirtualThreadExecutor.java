@@ -0,0 +1,82 @@
+package com.sj.voicebook.global.concurrent;
+
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 작업마다 가상 스레드를 생성하되, 동시에 실행되는 작업 수는 Semaphore로 제한하는 executor
+ * 허용량을 넘는 작업은 가상 스레드 안에서 대기하고, 대기 중인 작업이 queueCapacity를 넘으면
+ * ThreadPoolTaskExecutor와 같이 TaskRejectedException으로 바로 거절한다.
+ * SMTP 연결 수처럼 외부 자원의 동시 사용량 제한이 필요한 블로킹 작업에 사용한다.
+ */
+public class BoundedVirtualThreadExecutor implements Executor, AutoCloseable {
+
+    private final ExecutorService delegate;
+    private final Semaphore permits;
+    // 실행 중 + 대기 중인 작업 수 제한 (maxConcurrency + queueCapacity)
+    private final Semaphore slots;
+
+    public BoundedVirtualThreadExecutor(String threadNamePrefix, int maxConcurrency, int queueCapacity) {
+        this.delegate = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name(threadNamePrefix, 0).factory());
+        this.permits = new Semaphore(maxConcurrency);
+        this.slots = new Semaphore(maxConcurrency + queueCapacity);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (!slots.tryAcquire()) {
+            throw new TaskRejectedException("Executor is full: " + task);
+        }
+        try {
+            delegate.execute(() -> {
+                try {
+                    runWithPermit(task);
+                } finally {
+                    slots.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            slots.release();
+            throw e;
+        }
+    }
+
+    /**
+     * 대기 중에 취소된 작업(FutureTask)은 실행 슬롯을 잡지 않고 버린다.
+     */
+    private void runWithPermit(Runnable task) {
+        if (isCancelled(task)) {
+            return;
+        }
+        permits.acquireUninterruptibly();
+        try {
+            if (!isCancelled(task)) {
+                task.run();
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    private static boolean isCancelled(Runnable task) {
+        return task instanceof Future<?> future && future.isCancelled();
+    }
+
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    /**
+     * 실행 중인 작업이 끝날 때까지 기다린 뒤 종료
+     */
+    @Override
+    public void close() {
+        delegate.close();
+    }
+}
@@ -1,5 +1,7 @@
 package com.sj.voicebook.global.config;
 
+import com.sj.voicebook.global.concurrent.BoundedVirtualThreadExecutor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -11,14 +13,157 @@ import java.util.concurrent.Executor;
 @EnableAsync
 public class AsyncConfig {
 
+    /**
+     * 가상 스레드 모드 (spring.threads.virtual.enabled)
+     * 켜면 Tomcat 요청 처리와 블로킹 I/O 위주의 비동기 작업이 가상 스레드에서 실행된다.
+     */
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
     @Bean(name = "emailExecutor")
-    public Executor emailExecutor() {
+    public Executor emailExecutor(
+            @Value("${mail.max-concurrency:10}") int maxConcurrency,
+            @Value("${mail.queue-capacity:100}") int queueCapacity) {
+        if (virtualThreadsEnabled) {
+            // SMTP 동시 연결 수는 Semaphore로, 대기 작업 수는 플랫폼 스레드 모드와 같은 큐 크기로 제한
+            return new BoundedVirtualThreadExecutor("email-async-", maxConcurrency, queueCapacity);
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(5);
-        executor.setMaxPoolSize(10);
-        executor.setQueueCapacity(100);
+        executor.setCorePoolSize(Math.min(5, maxConcurrency));
+        executor.setMaxPoolSize(maxConcurrency);
+        executor.setQueueCapacity(queueCapacity);
         executor.setThreadNamePrefix("email-async-");
         executor.initialize();
         return executor;
     }
-}
\ No newline at end of file
+
+    /**
+     * 비밀번호 해싱 전용 executor
+     * CPU 바운드 작업이므로 코어 수만큼만 스레드를 두고, 큐가 가득 차면 즉시 거절한다.
+     * 가상 스레드로 바꿔도 이득이 없으므로 가상 스레드 모드에서도 플랫폼 스레드를 사용한다.
+     */
+    @Bean(name = "passwordHashExecutor")
+    public ThreadPoolTaskExecutor passwordHashExecutor(
+            @Value("${security.password.hash-queue-capacity:64}") int queueCapacity) {
+        int processors = Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(processors);
+        executor.setMaxPoolSize(processors);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-hash-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 대용량 미디어 multipart 업로드의 part 전송용 executor
+     * 동시에 전송 중인 part 수는 MultipartUploader의 버퍼 풀 크기로 제한된다.
+     */
+    @Bean(name = "mediaUploadExecutor")
+    public Executor mediaUploadExecutor(@Value("${media.upload.max-in-flight-parts:8}") int maxInFlightParts) {
+        if (virtualThreadsEnabled) {
+            return new BoundedVirtualThreadExecutor("media-upload-", maxInFlightParts, maxInFlightParts);
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxInFlightParts);
+        executor.setMaxPoolSize(maxInFlightParts);
+        executor.setQueueCapacity(maxInFlightParts);
+        executor.setThreadNamePrefix("media-upload-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 이미지 변형(축소/재인코딩) 전용 executor
+     * 디코딩/리샘플링은 CPU와 메모리를 많이 쓰므로 동시 실행 수를 작게 두고, 큐가 가득 차면 생성을 건너뛴다.
+     */
+    @Bean(name = "imageVariantExecutor")
+    public ThreadPoolTaskExecutor imageVariantExecutor(
+            @Value("${media.image.variant.concurrency:2}") int concurrency,
+            @Value("${media.image.variant.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-variant-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 녹음 무음 제거/변환 전용 executor
+     * 디코딩과 리샘플링이 CPU 바운드이므로 코어 수의 절반까지만 사용해 요청 처리 스레드와 경쟁하지 않게 한다.
+     */
+    @Bean(name = "audioProcessingExecutor")
+    public ThreadPoolTaskExecutor audioProcessingExecutor(
+            @Value("${recording.processing.queue-capacity:200}") int queueCapacity) {
+        int concurrency = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("audio-processing-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 음성 -> 텍스트 변환 전용 executor
+     * TranscriptionWorker가 빈 슬롯만큼만 batch를 넘기므로 큐는 거의 비어 있고,
+     * 변환이 밀려도 이메일/요청 처리 스레드와 자원을 나눠 쓰지 않는다.
+     */
+    @Bean(name = "sttExecutor")
+    public ThreadPoolTaskExecutor sttExecutor(
+            @Value("${transcription.max-in-flight-batches:4}") int maxInFlightBatches) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxInFlightBatches);
+        executor.setMaxPoolSize(maxInFlightBatches);
+        executor.setQueueCapacity(maxInFlightBatches);
+        executor.setThreadNamePrefix("stt-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 다음 질문 선제 생성 전용 executor
+     * 확정 시 생성은 요청 스레드에서 하므로, 선제 생성이 밀려도 확정 응답은 이 executor를 기다리지 않는다.
+     * 큐가 가득 차면 선제 생성을 건너뛴다.
+     */
+    @Bean(name = "questionPrefetchExecutor")
+    public Executor questionPrefetchExecutor(
+            @Value("${interview.prefetch.concurrency:8}") int concurrency,
+            @Value("${interview.prefetch.queue-capacity:16}") int queueCapacity) {
+        if (virtualThreadsEnabled) {
+            return new BoundedVirtualThreadExecutor("question-prefetch-", concurrency, queueCapacity);
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("question-prefetch-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 외부 모델 호출 전용 executor
+     * 동시 호출 수는 LlmGateway의 모델별 Semaphore로 제한되므로, 여기서는 그 합보다 크게만 잡는다.
+     */
+    @Bean(name = "llmExecutor")
+    public Executor llmExecutor(@Value("${llm.executor-threads:32}") int threads) {
+        if (virtualThreadsEnabled) {
+            return new BoundedVirtualThreadExecutor("llm-", threads, threads);
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(threads);
+        executor.setThreadNamePrefix("llm-");
+        executor.initialize();
+        return executor;
+    }
+}
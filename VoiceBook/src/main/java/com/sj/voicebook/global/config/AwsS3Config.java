@@ -5,9 +5,12 @@ import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Configuration;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import org.springframework.beans.factory.annotation.Value;
 
+import java.net.URI;
+
 @Configuration
 public class AwsS3Config {
 
@@ -20,12 +23,21 @@ public class AwsS3Config {
     @Value("${spring.cloud.aws.region.static}")
     private String region;
 
+    // MinIO 등 S3 호환 로컬 서버 주소 (비어 있으면 AWS S3 사용)
+    // S3Client는 Spring Cloud AWS가 같은 spring.cloud.aws.s3.endpoint 설정으로 생성한다.
+    @Value("${spring.cloud.aws.s3.endpoint:}")
+    private String endpoint;
+
     // Presigned URL을 생성하는 '발급기'를 빈으로 등록
     @Bean
     public S3Presigner s3Presigner() {
-        return S3Presigner.builder()
+        S3Presigner.Builder builder = S3Presigner.builder()
                 .region(Region.of(region))
-                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey)))
-                .build();
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey)));
+        if (!endpoint.isBlank()) {
+            builder.endpointOverride(URI.create(endpoint))
+                    .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build());
+        }
+        return builder.build();
     }
 }
\ No newline at end of file
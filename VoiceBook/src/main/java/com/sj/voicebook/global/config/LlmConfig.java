@@ -0,0 +1,10 @@
+package com.sj.voicebook.global.config;
+
+import com.sj.voicebook.global.llm.LlmProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(LlmProperties.class)
+public class LlmConfig {
+}
@@ -0,0 +1,44 @@
+package com.sj.voicebook.global.config;
+
+import com.sj.voicebook.global.mail.PooledJavaMailSender;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.mail.MailProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.Properties;
+
+/**
+ * spring.mail 설정을 그대로 사용하되, 연결을 재사용하는 PooledJavaMailSender를 등록
+ * host/port를 바꾸면 로컬 SMTP 대역(GreenMail 등)에 붙여 테스트할 수 있다.
+ */
+@Configuration
+@EnableConfigurationProperties(MailProperties.class)
+public class MailConfig {
+
+    @Bean
+    public PooledJavaMailSender javaMailSender(
+            MailProperties mailProperties,
+            @Value("${mail.pool.max-connections:3}") int maxConnections,
+            @Value("${mail.pool.idle-timeout:30s}") Duration idleTimeout,
+            @Value("${mail.pool.max-messages-per-connection:100}") int maxMessagesPerConnection
+    ) {
+        PooledJavaMailSender sender = new PooledJavaMailSender(maxConnections, idleTimeout, maxMessagesPerConnection);
+        sender.setHost(mailProperties.getHost());
+        if (mailProperties.getPort() != null) {
+            sender.setPort(mailProperties.getPort());
+        }
+        sender.setUsername(mailProperties.getUsername());
+        sender.setPassword(mailProperties.getPassword());
+        sender.setProtocol(mailProperties.getProtocol());
+        if (mailProperties.getDefaultEncoding() != null) {
+            sender.setDefaultEncoding(mailProperties.getDefaultEncoding().name());
+        }
+        Properties javaMailProperties = new Properties();
+        javaMailProperties.putAll(mailProperties.getProperties());
+        sender.setJavaMailProperties(javaMailProperties);
+        return sender;
+    }
+}
@@ -0,0 +1,10 @@
+package com.sj.voicebook.global.config;
+
+import com.sj.voicebook.global.ratelimit.RateLimitProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitConfig {
+}
@@ -2,6 +2,7 @@ package com.sj.voicebook.global.config;
 
 import com.sj.voicebook.global.jwt.JwtAuthenticationFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -19,9 +20,12 @@ public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
 
+    /**
+     * BCrypt work factor는 설정으로 조정하며, 더 낮은 cost로 저장된 비밀번호는 로그인 시 재해싱된다.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${security.password.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
     @Bean
@@ -32,11 +36,13 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers(
                                 "/api/members/signup",
-                                "/api/members/profile-image",
+                                "/api/members/profile-image/upload-url",
                                 "/api/members/email/send",
                                 "/api/members/email/verify",
                                 "/api/members/login",
                                 "/api/members/refresh").permitAll()
+                        // handshake에서 JwtHandshakeInterceptor가 인증
+                        .requestMatchers("/ws/transcriptions/stream").permitAll()
                         .anyRequest().authenticated()
                 )
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
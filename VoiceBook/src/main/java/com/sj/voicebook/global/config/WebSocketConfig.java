@@ -0,0 +1,49 @@
+package com.sj.voicebook.global.config;
+
+import com.sj.voicebook.global.jwt.JwtHandshakeInterceptor;
+import com.sj.voicebook.transcription.controller.TranscriptionStreamHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+import org.springframework.web.socket.server.standard.ServletServerContainerFactoryBean;
+
+import java.time.Duration;
+
+@Configuration
+@EnableWebSocket
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    private final TranscriptionStreamHandler transcriptionStreamHandler;
+    private final JwtHandshakeInterceptor jwtHandshakeInterceptor;
+
+    @Value("${websocket.allowed-origins:*}")
+    private String[] allowedOrigins;
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(transcriptionStreamHandler, "/ws/transcriptions/stream")
+                .addInterceptors(jwtHandshakeInterceptor)
+                .setAllowedOriginPatterns(allowedOrigins);
+    }
+
+    /**
+     * 메시지 크기와 유휴 시간 제한 - 오디오 프레임은 수십 ms 단위로 오므로 작은 버퍼로 충분하다.
+     */
+    @Bean
+    public ServletServerContainerFactoryBean webSocketContainer(
+            @Value("${websocket.max-binary-message-size:64KB}") DataSize maxBinaryMessageSize,
+            @Value("${websocket.max-text-message-size:8KB}") DataSize maxTextMessageSize,
+            @Value("${websocket.idle-timeout:30s}") Duration idleTimeout) {
+        ServletServerContainerFactoryBean container = new ServletServerContainerFactoryBean();
+        container.setMaxBinaryMessageBufferSize((int) maxBinaryMessageSize.toBytes());
+        container.setMaxTextMessageBufferSize((int) maxTextMessageSize.toBytes());
+        container.setMaxSessionIdleTimeout(idleTimeout.toMillis());
+        return container;
+    }
+}
@@ -1,6 +1,7 @@
 package com.sj.voicebook.global.exception;
 
 import lombok.Getter;
+import org.springframework.http.HttpStatus;
 
 @Getter
 public enum ErrorCode {
@@ -10,6 +11,8 @@ public enum ErrorCode {
     INTERNAL_SERVER_ERROR("C003", "서버 내부 오류가 발생했습니다."),
     INVALID_TYPE_VALUE("C004", "잘못된 타입입니다."),
     ACCESS_DENIED("C005", "접근이 거부되었습니다."),
+    SERVER_BUSY("C006", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE),
+    TOO_MANY_REQUESTS("C007", "요청 횟수가 너무 많습니다. 잠시 후 다시 시도해주세요.", HttpStatus.TOO_MANY_REQUESTS),
 
     // Member
     EMAIL_DUPLICATION("M001", "이미 사용 중인 이메일입니다."),
@@ -17,6 +20,7 @@ public enum ErrorCode {
     MEMBER_NOT_FOUND("M003", "회원을 찾을 수 없습니다."),
     INVALID_PASSWORD("M004", "비밀번호가 일치하지 않습니다."),
     UNAUTHORIZED_MEMBER("M005", "인증되지 않은 회원입니다."),
+    PROFILE_IMAGE_NOT_FOUND("M006", "프로필 이미지를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
 
     // Auth
     INVALID_TOKEN("A001", "유효하지 않은 토큰입니다."),
@@ -28,20 +32,41 @@ public enum ErrorCode {
     EMAIL_CODE_EXPIRED("E002", "인증 코드가 만료되었습니다."),
     EMAIL_CODE_MISMATCH("E003", "인증 코드가 일치하지 않습니다."),
     EMAIL_CODE_NOT_FOUND("E004", "인증 코드를 찾을 수 없습니다."),
+    EMAIL_CODE_ATTEMPTS_EXCEEDED("E005", "인증 시도 횟수를 초과했습니다. 인증 코드를 다시 요청해주세요."),
+
+    // Recording
+    UPLOAD_SESSION_NOT_FOUND("R001", "업로드 세션을 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
+    UPLOAD_OFFSET_MISMATCH("R002", "업로드 위치가 일치하지 않습니다. 현재 위치를 조회한 뒤 다시 시도해주세요.", HttpStatus.CONFLICT),
+    UPLOAD_IN_PROGRESS("R003", "같은 업로드 세션에 다른 요청이 진행 중입니다.", HttpStatus.CONFLICT),
+    RECORDING_NOT_FOUND("R004", "녹음을 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
+
+    // Transcription
+    TRANSCRIPTION_JOB_NOT_FOUND("T001", "변환 작업을 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
+
+    // LLM
+    LLM_TIMEOUT("L001", "응답 생성이 지연되고 있습니다. 잠시 후 다시 시도해주세요.", HttpStatus.GATEWAY_TIMEOUT),
+    LLM_UNAVAILABLE("L002", "지금은 응답을 생성할 수 없습니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE),
 
     // File
     INVALID_FILE("F001", "유효하지 않은 파일입니다."),
     FILE_SIZE_EXCEEDED("F002", "파일 크기가 제한을 초과했습니다."),
     INVALID_FILE_TYPE("F003", "지원하지 않는 파일 형식입니다."),
     FILE_UPLOAD_FAILED("F004", "파일 업로드에 실패했습니다."),
-    FILE_URL_GENERATION_FAILED("F005", "파일 URL 생성에 실패했습니다.");
+    FILE_URL_GENERATION_FAILED("F005", "파일 URL 생성에 실패했습니다."),
+    MEDIA_NOT_FOUND("F006", "미디어를 찾을 수 없습니다.", HttpStatus.NOT_FOUND);
 
     private final String code;
     private final String message;
+    private final HttpStatus status;
 
     ErrorCode(String code, String message) {
+        this(code, message, HttpStatus.BAD_REQUEST);
+    }
+
+    ErrorCode(String code, String message, HttpStatus status) {
         this.code = code;
         this.message = message;
+        this.status = status;
     }
 }
 
@@ -0,0 +1,70 @@
+package com.sj.voicebook.global.jwt;
+
+import com.sj.voicebook.global.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.Map;
+
+/**
+ * WebSocket handshake 인증
+ * 브라우저 WebSocket은 Authorization 헤더를 보낼 수 없으므로 token 쿼리 파라미터도 받는다.
+ * 검증된 userId는 세션 attribute(USER_ID)로 handler에 전달된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JwtHandshakeInterceptor implements HandshakeInterceptor {
+
+    public static final String USER_ID = "userId";
+    private static final String TOKEN_PARAMETER = "token";
+
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    @Override
+    public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                   WebSocketHandler wsHandler, Map<String, Object> attributes) {
+        String token = resolveToken(request);
+        if (token == null) {
+            response.setStatusCode(HttpStatus.UNAUTHORIZED);
+            return false;
+        }
+
+        try {
+            JwtPrincipal principal = verifiedTokenCache.verify(token);
+            // Refresh Token에는 role이 없다.
+            if (principal.role() == null) {
+                response.setStatusCode(HttpStatus.UNAUTHORIZED);
+                return false;
+            }
+            attributes.put(USER_ID, principal.userId());
+            return true;
+        } catch (BusinessException e) {
+            log.debug("WebSocket handshake rejected: {}", e.getMessage());
+            response.setStatusCode(HttpStatus.UNAUTHORIZED);
+            return false;
+        }
+    }
+
+    @Override
+    public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                               WebSocketHandler wsHandler, Exception exception) {
+    }
+
+    private String resolveToken(ServerHttpRequest request) {
+        String bearerToken = request.getHeaders().getFirst("Authorization");
+        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
+            return bearerToken.substring(7);
+        }
+        String token = UriComponentsBuilder.fromUri(request.getURI()).build().getQueryParams().getFirst(TOKEN_PARAMETER);
+        return StringUtils.hasText(token) ? token : null;
+    }
+}
@@ -0,0 +1,10 @@
+package com.sj.voicebook.global.jwt;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증이 끝난 토큰에서 한 번에 추출한 인증 정보
+ * Refresh Token은 email, role 클레임이 없으므로 null일 수 있다.
+ */
+public record JwtPrincipal(Long userId, String email, String role, Instant expiresAt) {
+}
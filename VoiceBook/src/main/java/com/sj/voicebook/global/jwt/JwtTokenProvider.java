@@ -17,6 +17,7 @@ import java.util.Date;
 public class JwtTokenProvider {
 
     private final SecretKey secretKey;
+    private final JwtParser jwtParser;
     private final long accessTokenExpiration;
     private final long refreshTokenExpiration;
 
@@ -26,6 +27,10 @@ public class JwtTokenProvider {
             @Value("${jwt.refresh-token-expiration}") long refreshTokenExpiration
     ) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        // JwtParser는 불변이며 thread-safe 하므로 한 번만 생성해서 재사용
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
         this.accessTokenExpiration = accessTokenExpiration;
         this.refreshTokenExpiration = refreshTokenExpiration;
     }
@@ -86,6 +91,32 @@ public class JwtTokenProvider {
         return claims.get("role", String.class);
     }
 
+    /**
+     * 토큰을 한 번만 파싱/서명 검증하고 인증 정보를 반환
+     * 만료되었거나 유효하지 않은 토큰이면 예외를 던진다.
+     */
+    public JwtPrincipal parsePrincipal(String token) {
+        try {
+            Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                throw new BusinessException(ErrorCode.INVALID_TOKEN);
+            }
+            return new JwtPrincipal(
+                    Long.parseLong(claims.getSubject()),
+                    claims.get("email", String.class),
+                    claims.get("role", String.class),
+                    expiration.toInstant()
+            );
+        } catch (ExpiredJwtException e) {
+            log.error("Expired JWT token: {}", e.getMessage());
+            throw new BusinessException(ErrorCode.EXPIRED_TOKEN);
+        } catch (JwtException | IllegalArgumentException e) {
+            log.error("Invalid JWT token: {}", e.getMessage());
+            throw new BusinessException(ErrorCode.INVALID_TOKEN);
+        }
+    }
+
     /**
      * 토큰 유효성 검증
      */
@@ -107,11 +138,7 @@ public class JwtTokenProvider {
      */
     private Claims parseClaims(String token) {
         try {
-            return Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            return jwtParser.parseSignedClaims(token).getPayload();
         } catch (ExpiredJwtException e) {
             return e.getClaims();
         }
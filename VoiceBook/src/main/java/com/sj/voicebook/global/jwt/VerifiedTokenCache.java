@@ -0,0 +1,84 @@
+package com.sj.voicebook.global.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+
+/**
+ * 서명 검증이 끝난 Access Token을 토큰 만료 시각(exp)까지 보관하는 캐시
+ * 같은 클라이언트의 반복 요청은 HMAC 서명 검증 없이 인증 정보를 얻는다.
+ * 키는 토큰 원문이 아니라 SHA-256 digest를 사용한다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private static final String CACHE_NAME = "jwt.verified-token";
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final Cache<String, JwtPrincipal> cache;
+
+    public VerifiedTokenCache(
+            JwtTokenProvider jwtTokenProvider,
+            MeterRegistry meterRegistry,
+            @Value("${jwt.cache.maximum-size:10000}") long maximumSize
+    ) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new ExpireAtTokenExpiry())
+                .recordStats()
+                .build();
+        // cache.gets{result=hit|miss} 등 히트/미스 카운터를 메트릭으로 노출
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시에 있으면 그대로 반환하고, 없으면 한 번 파싱/검증한 뒤 캐시에 저장
+     * 검증에 실패한 토큰은 캐시에 저장되지 않는다.
+     */
+    public JwtPrincipal verify(String token) {
+        return cache.get(digest(token), key -> jwtTokenProvider.parsePrincipal(token));
+    }
+
+    private String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm is not available", e);
+        }
+    }
+
+    /**
+     * 엔트리를 토큰의 exp 시각에 만료시킨다. 조회/갱신으로 수명이 늘어나지 않는다.
+     */
+    private static class ExpireAtTokenExpiry implements Expiry<String, JwtPrincipal> {
+
+        @Override
+        public long expireAfterCreate(String key, JwtPrincipal principal, long currentTime) {
+            long remaining = Duration.between(Instant.now(), principal.expiresAt()).toNanos();
+            return Math.max(0, remaining);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, JwtPrincipal principal, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, principal, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, JwtPrincipal principal, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.sj.voicebook.global.llm;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 로컬/부하 테스트용 가짜 모델
+ * 같은 요청에는 항상 같은 응답을 돌려주고, 첫 토큰 지연과 토큰당 지연을 흉내 낸다.
+ */
+@Component
+@ConditionalOnProperty(name = "llm.backend", havingValue = "fake")
+public class FakeLlmBackend implements LlmBackend {
+
+    private static final List<String> SENTENCES = List.of(
+            "그때 가장 기억에 남는 장면은 무엇이었나요?",
+            "그 일을 함께 겪은 분들은 지금 어떻게 지내시나요?",
+            "그 시절의 하루는 보통 어떻게 흘러갔나요?",
+            "그 경험이 자녀분들에게 전하고 싶은 이야기와 어떻게 이어지나요?",
+            "그때로 돌아간다면 스스로에게 어떤 말을 해주고 싶으세요?"
+    );
+    // 한국어 기준 대략 글자 3개당 토큰 1개
+    private static final int CHARS_PER_TOKEN = 3;
+
+    private final Duration firstTokenLatency;
+    private final Duration tokenLatency;
+
+    public FakeLlmBackend(
+            @Value("${llm.fake.first-token-latency:300ms}") Duration firstTokenLatency,
+            @Value("${llm.fake.token-latency:20ms}") Duration tokenLatency
+    ) {
+        this.firstTokenLatency = firstTokenLatency;
+        this.tokenLatency = tokenLatency;
+    }
+
+    @Override
+    public LlmResponse generate(LlmRequest request, Consumer<String> onToken) throws InterruptedException {
+        int seed = request.contentHash().hashCode();
+        String text = SENTENCES.get(Math.floorMod(seed, SENTENCES.size()));
+        String[] tokens = text.split("(?<= )");
+        int limit = Math.min(tokens.length, Math.max(1, request.maxTokens()));
+
+        Thread.sleep(firstTokenLatency);
+        StringBuilder generated = new StringBuilder();
+        for (int i = 0; i < limit; i++) {
+            if (i > 0) {
+                Thread.sleep(tokenLatency);
+            }
+            onToken.accept(tokens[i]);
+            generated.append(tokens[i]);
+        }
+
+        int promptChars = request.prompt().length() + (request.system() != null ? request.system().length() : 0);
+        return new LlmResponse(generated.toString(), Math.max(1, promptChars / CHARS_PER_TOKEN), limit, false);
+    }
+}
@@ -0,0 +1,15 @@
+package com.sj.voicebook.global.llm;
+
+import java.util.function.Consumer;
+
+/**
+ * 외부 모델 호출 - 구현체는 llm.backend 설정으로 하나만 등록되며, 설정이 없으면 애플리케이션이 시작되지 않는다.
+ */
+public interface LlmBackend {
+
+    /**
+     * 토큰이 생성될 때마다 onToken을 호출하고, 끝나면 전체 결과를 반환한다.
+     * 호출 스레드가 interrupt 되면 가능한 빨리 InterruptedException으로 중단해야 한다.
+     */
+    LlmResponse generate(LlmRequest request, Consumer<String> onToken) throws InterruptedException;
+}
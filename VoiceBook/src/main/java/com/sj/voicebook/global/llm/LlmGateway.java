@@ -0,0 +1,244 @@
+package com.sj.voicebook.global.llm;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sj.voicebook.global.exception.BusinessException;
+import com.sj.voicebook.global.exception.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 외부 모델 호출 gateway
+ * - 같은 요청 내용(SHA-256)의 응답은 캐시에서 바로 돌려준다.
+ * - 같은 요청이 이미 진행 중이면 새로 호출하지 않고 그 결과를 함께 기다린다.
+ * - 모델별 Semaphore로 동시 호출 수를 제한하고, 슬롯을 acquire-timeout 안에 얻지 못하면 LLM_UNAVAILABLE.
+ * - 기다리는 호출자가 모두 timeout/interrupt로 떠나면 모델 호출도 interrupt로 취소한다.
+ * 호출은 llmExecutor에서 실행되고, 호출자는 모델별 timeout 까지만 기다린다.
+ */
+@Slf4j
+@Service
+public class LlmGateway {
+
+    private static final String CACHE_NAME = "llm.responses";
+
+    private final LlmBackend llmBackend;
+    private final Executor llmExecutor;
+    private final LlmProperties llmProperties;
+    private final MeterRegistry meterRegistry;
+    private final Cache<String, LlmResponse> responseCache;
+
+    private final Map<String, Semaphore> permits = new ConcurrentHashMap<>();
+    private final Map<String, InFlight> inFlight = new ConcurrentHashMap<>();
+
+    public LlmGateway(
+            LlmBackend llmBackend,
+            @Qualifier("llmExecutor") Executor llmExecutor,
+            LlmProperties llmProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.llmBackend = llmBackend;
+        this.llmExecutor = llmExecutor;
+        this.llmProperties = llmProperties;
+        this.meterRegistry = meterRegistry;
+        this.responseCache = Caffeine.newBuilder()
+                .maximumSize(llmProperties.cache().maximumSize())
+                .expireAfterWrite(llmProperties.cache().ttl())
+                .recordStats()
+                .build();
+        // cache.gets{cache=llm.responses, result=hit|miss}
+        CaffeineCacheMetrics.monitor(meterRegistry, responseCache, CACHE_NAME);
+    }
+
+    public LlmResponse complete(LlmRequest request) {
+        String key = request.contentHash();
+        LlmResponse cached = responseCache.getIfPresent(key);
+        if (cached != null) {
+            return cached.asCached();
+        }
+
+        // 조회와 합류를 한 번에 처리 - 마지막 호출자가 떠나 취소되는 호출에는 합류하지 않고 새로 호출한다.
+        InFlight created = new InFlight();
+        InFlight call = inFlight.compute(key, (k, current) -> {
+            if (current != null && current.join()) {
+                return current;
+            }
+            created.waiters.incrementAndGet();
+            return created;
+        });
+        if (call == created) {
+            start(key, request, call, token -> {
+            });
+        } else {
+            meterRegistry.counter("llm.coalesced", "model", request.model()).increment();
+        }
+        return await(call, request.model());
+    }
+
+    /**
+     * 토큰을 생성되는 대로 onToken에 넘긴다 (llmExecutor 스레드에서 호출됨).
+     * 호출자마다 토큰을 받아야 하므로 진행 중인 호출과 병합하지 않고, 캐시에 있으면 전체 응답을 한 번에 넘긴다.
+     */
+    public LlmResponse stream(LlmRequest request, Consumer<String> onToken) {
+        String key = request.contentHash();
+        LlmResponse cached = responseCache.getIfPresent(key);
+        if (cached != null) {
+            onToken.accept(cached.text());
+            return cached.asCached();
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        AtomicBoolean first = new AtomicBoolean(true);
+        InFlight call = new InFlight();
+        call.waiters.incrementAndGet();
+        start(key, request, call, token -> {
+            if (first.compareAndSet(true, false)) {
+                sample.stop(meterRegistry.timer("llm.first.token", "model", request.model()));
+            }
+            onToken.accept(token);
+        });
+        return await(call, request.model());
+    }
+
+    private void start(String key, LlmRequest request, InFlight call, Consumer<String> onToken) {
+        LlmProperties.Model model = llmProperties.model(request.model());
+        Semaphore semaphore = permits.computeIfAbsent(request.model(), name -> new Semaphore(model.maxConcurrency()));
+        try {
+            if (!semaphore.tryAcquire(model.acquireTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                meterRegistry.counter("llm.rejected", "model", request.model()).increment();
+                fail(key, call, new BusinessException(ErrorCode.LLM_UNAVAILABLE));
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fail(key, call, new BusinessException(ErrorCode.LLM_UNAVAILABLE));
+            return;
+        }
+
+        // 실행 전에 취소되면 done()이, 실행되면 invoke가 끝날 때 슬롯을 돌려준다.
+        // 취소 후에도 interrupt를 무시하고 계속 도는 모델 호출이 있으므로 끝나기 전에는 돌려주지 않는다.
+        AtomicBoolean started = new AtomicBoolean();
+        FutureTask<Void> task = new FutureTask<>(() -> {
+            if (!started.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                invoke(key, request, call, onToken);
+            } finally {
+                semaphore.release();
+            }
+        }, null) {
+            @Override
+            protected void done() {
+                if (started.compareAndSet(false, true)) {
+                    semaphore.release();
+                }
+                inFlight.remove(key, call);
+                if (isCancelled()) {
+                    call.future.completeExceptionally(new BusinessException(ErrorCode.LLM_TIMEOUT));
+                }
+            }
+        };
+        call.task = task;
+        try {
+            llmExecutor.execute(task);
+        } catch (RejectedExecutionException e) {
+            meterRegistry.counter("llm.rejected", "model", request.model()).increment();
+            fail(key, call, new BusinessException(ErrorCode.LLM_UNAVAILABLE));
+            // done()에서 슬롯 반환
+            task.cancel(false);
+        }
+    }
+
+    private void invoke(String key, LlmRequest request, InFlight call, Consumer<String> onToken) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            LlmResponse response = llmBackend.generate(request, onToken);
+            responseCache.put(key, response);
+            meterRegistry.counter("llm.tokens", "model", request.model(), "type", "prompt")
+                    .increment(response.promptTokens());
+            meterRegistry.counter("llm.tokens", "model", request.model(), "type", "completion")
+                    .increment(response.completionTokens());
+            call.future.complete(response);
+        } catch (InterruptedException e) {
+            outcome = "cancelled";
+            call.future.completeExceptionally(new BusinessException(ErrorCode.LLM_TIMEOUT));
+        } catch (RuntimeException e) {
+            outcome = "error";
+            log.error("LLM call failed (model: {})", request.model(), e);
+            call.future.completeExceptionally(new BusinessException(ErrorCode.LLM_UNAVAILABLE));
+        } finally {
+            sample.stop(meterRegistry.timer("llm.latency", "model", request.model(), "outcome", outcome));
+        }
+    }
+
+    private LlmResponse await(InFlight call, String model) {
+        try {
+            return call.future.get(llmProperties.model(model).timeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            meterRegistry.counter("llm.timeouts", "model", model).increment();
+            throw new BusinessException(ErrorCode.LLM_TIMEOUT);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.LLM_TIMEOUT);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof BusinessException businessException) {
+                throw businessException;
+            }
+            throw new BusinessException(ErrorCode.LLM_UNAVAILABLE);
+        } finally {
+            // 마지막 호출자가 떠나면 결과를 기다리는 쪽이 없으므로 모델 호출을 중단
+            FutureTask<Void> task = call.task;
+            if (call.waiters.decrementAndGet() == 0 && !call.future.isDone() && task != null) {
+                task.cancel(true);
+            }
+        }
+    }
+
+    private void fail(String key, InFlight call, BusinessException exception) {
+        inFlight.remove(key, call);
+        call.future.completeExceptionally(exception);
+    }
+
+    /**
+     * 진행 중인 모델 호출 하나와 그 결과를 기다리는 호출자 수
+     */
+    private static class InFlight {
+
+        private final CompletableFuture<LlmResponse> future = new CompletableFuture<>();
+        private final AtomicInteger waiters = new AtomicInteger();
+        private volatile FutureTask<Void> task;
+
+        /**
+         * 기다리는 호출자로 합류 - 이미 끝났거나 호출자가 모두 떠나 취소되는 호출이면 false
+         */
+        boolean join() {
+            int current;
+            do {
+                current = waiters.get();
+                if (current == 0 || future.isDone()) {
+                    return false;
+                }
+            } while (!waiters.compareAndSet(current, current + 1));
+            return true;
+        }
+    }
+}
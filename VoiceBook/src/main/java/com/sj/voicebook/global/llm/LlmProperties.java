@@ -0,0 +1,47 @@
+package com.sj.voicebook.global.llm;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * LLM gateway 설정
+ * 설정되지 않은 모델은 Model.DEFAULT 제한을 사용한다.
+ */
+@ConfigurationProperties(prefix = "llm")
+public record LlmProperties(
+        Cache cache,
+        Map<String, Model> models
+) {
+
+    public LlmProperties {
+        cache = cache == null ? new Cache(10_000, Duration.ofHours(1)) : cache;
+        models = models == null ? Map.of() : models;
+    }
+
+    public Model model(String name) {
+        return models.getOrDefault(name, Model.DEFAULT);
+    }
+
+    /**
+     * 같은 요청(모델 + 프롬프트)의 응답을 maximumSize 건까지 ttl 동안 재사용한다.
+     */
+    public record Cache(long maximumSize, Duration ttl) {
+    }
+
+    /**
+     * maxConcurrency: 모델별 동시 호출 수, acquireTimeout: 호출 슬롯 대기 시간, timeout: 응답 대기 시간
+     */
+    public record Model(int maxConcurrency, Duration acquireTimeout, Duration timeout) {
+
+        static final Model DEFAULT = new Model(4, Duration.ofSeconds(2), Duration.ofSeconds(30));
+
+        public Model {
+            // 일부만 설정된 모델은 나머지를 기본값으로 채운다.
+            maxConcurrency = maxConcurrency > 0 ? maxConcurrency : 4;
+            acquireTimeout = acquireTimeout == null ? Duration.ofSeconds(2) : acquireTimeout;
+            timeout = timeout == null ? Duration.ofSeconds(30) : timeout;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.sj.voicebook.global.llm;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+public record LlmRequest(String model, String system, String prompt, int maxTokens) {
+
+    /**
+     * 응답 캐시/중복 호출 병합 키 - 요청 내용의 SHA-256
+     */
+    public String contentHash() {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String part : new String[]{model, system, prompt, String.valueOf(maxTokens)}) {
+                digest.update((part == null ? "" : part).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.sj.voicebook.global.llm;
+
+public record LlmResponse(String text, int promptTokens, int completionTokens, boolean cached) {
+
+    public LlmResponse asCached() {
+        return new LlmResponse(text, promptTokens, completionTokens, true);
+    }
+}
@@ -0,0 +1,219 @@
+package com.sj.voicebook.global.mail;
+
+import jakarta.mail.Address;
+import jakarta.mail.AuthenticationFailedException;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.lang.Nullable;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 인증된 SMTP 연결을 재사용하는 JavaMailSender
+ * 기본 JavaMailSenderImpl은 send() 호출마다 SSL 연결/인증/종료를 반복하지만,
+ * 이 구현은 연결을 풀에 보관했다가 다음 전송에 재사용하고 여러 메시지를 한 세션으로 보낸다.
+ * 연결 수는 maxConnections로 제한하며, 오래 쉬고 있는 연결은 주기적으로 정리한다.
+ */
+@Slf4j
+public class PooledJavaMailSender extends JavaMailSenderImpl implements DisposableBean {
+
+    private static final String HEADER_MESSAGE_ID = "Message-ID";
+    // 이 시간 이상 쉬었던 연결은 재사용 전에 NOOP으로 살아 있는지 확인
+    private static final Duration VALIDATE_AFTER_IDLE = Duration.ofSeconds(5);
+
+    private final Semaphore connectionPermits;
+    private final LinkedBlockingDeque<PooledTransport> idleTransports = new LinkedBlockingDeque<>();
+    private final Duration idleTimeout;
+    private final int maxMessagesPerConnection;
+
+    public PooledJavaMailSender(int maxConnections, Duration idleTimeout, int maxMessagesPerConnection) {
+        this.connectionPermits = new Semaphore(maxConnections);
+        this.idleTimeout = idleTimeout;
+        this.maxMessagesPerConnection = maxMessagesPerConnection;
+    }
+
+    @Override
+    protected void doSend(MimeMessage[] mimeMessages, @Nullable Object[] originalMessages) throws MailException {
+        Map<Object, Exception> failedMessages = new LinkedHashMap<>();
+        PooledTransport pooled = null;
+
+        try {
+            for (int i = 0; i < mimeMessages.length; i++) {
+                Object original = (originalMessages != null ? originalMessages[i] : mimeMessages[i]);
+
+                if (pooled == null) {
+                    try {
+                        pooled = borrow();
+                    } catch (AuthenticationFailedException ex) {
+                        throw new MailAuthenticationException(ex);
+                    } catch (Exception ex) {
+                        // 연결 자체가 실패하면 남은 메시지는 모두 실패 처리
+                        for (int j = i; j < mimeMessages.length; j++) {
+                            failedMessages.put(originalMessages != null ? originalMessages[j] : mimeMessages[j], ex);
+                        }
+                        throw new MailSendException("Mail server connection failed", ex, failedMessages);
+                    }
+                }
+
+                try {
+                    sendMessage(pooled, mimeMessages[i]);
+                } catch (MessagingException ex) {
+                    if (pooled.transport().isConnected()) {
+                        failedMessages.put(original, ex);
+                        continue;
+                    }
+
+                    // 서버가 연결을 끊은 경우 새 연결로 한 번만 재시도
+                    release(pooled, false);
+                    pooled = null;
+                    try {
+                        pooled = borrow();
+                        sendMessage(pooled, mimeMessages[i]);
+                    } catch (Exception retryEx) {
+                        failedMessages.put(original, retryEx);
+                    }
+                }
+            }
+        } finally {
+            if (pooled != null) {
+                release(pooled, true);
+            }
+        }
+
+        if (!failedMessages.isEmpty()) {
+            throw new MailSendException(failedMessages);
+        }
+    }
+
+    /**
+     * 오래 사용되지 않은 연결 정리
+     */
+    @Scheduled(fixedDelayString = "${mail.pool.eviction-interval-ms:10000}")
+    public void evictIdleConnections() {
+        Iterator<PooledTransport> iterator = idleTransports.iterator();
+        while (iterator.hasNext()) {
+            PooledTransport pooled = iterator.next();
+            if (pooled.idleLongerThan(idleTimeout) && idleTransports.removeFirstOccurrence(pooled)) {
+                closeQuietly(pooled);
+                log.debug("Evicted idle SMTP connection");
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        PooledTransport pooled;
+        while ((pooled = idleTransports.pollFirst()) != null) {
+            closeQuietly(pooled);
+        }
+    }
+
+    public int idleConnectionCount() {
+        return idleTransports.size();
+    }
+
+    private PooledTransport borrow() throws MessagingException {
+        connectionPermits.acquireUninterruptibly();
+        try {
+            PooledTransport pooled;
+            while ((pooled = idleTransports.pollFirst()) != null) {
+                if (!pooled.idleLongerThan(idleTimeout) && isAlive(pooled)) {
+                    return pooled;
+                }
+                closeQuietly(pooled);
+            }
+            return new PooledTransport(connectTransport());
+        } catch (MessagingException | RuntimeException e) {
+            connectionPermits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * 연결 확인(NOOP)은 하지 않는다 - 끊긴 연결은 다음 borrow의 idle 확인이나 전송 실패 후 재시도에서 걸러진다.
+     */
+    private void release(PooledTransport pooled, boolean reusable) {
+        try {
+            if (reusable && pooled.messagesSent() < maxMessagesPerConnection) {
+                pooled.touch();
+                idleTransports.offerFirst(pooled);
+            } else {
+                closeQuietly(pooled);
+            }
+        } finally {
+            connectionPermits.release();
+        }
+    }
+
+    private boolean isAlive(PooledTransport pooled) {
+        // SMTPTransport.isConnected()는 NOOP을 보내 연결 상태를 확인한다.
+        return !pooled.idleLongerThan(VALIDATE_AFTER_IDLE) || pooled.transport().isConnected();
+    }
+
+    private void sendMessage(PooledTransport pooled, MimeMessage mimeMessage) throws MessagingException {
+        if (mimeMessage.getSentDate() == null) {
+            mimeMessage.setSentDate(new Date());
+        }
+        String messageId = mimeMessage.getMessageID();
+        mimeMessage.saveChanges();
+        if (messageId != null) {
+            // saveChanges()가 새로 만든 Message-ID 대신 기존 값을 유지
+            mimeMessage.setHeader(HEADER_MESSAGE_ID, messageId);
+        }
+        Address[] addresses = mimeMessage.getAllRecipients();
+        pooled.transport().sendMessage(mimeMessage, (addresses != null ? addresses : new Address[0]));
+        pooled.countSent();
+    }
+
+    private void closeQuietly(PooledTransport pooled) {
+        try {
+            pooled.transport().close();
+        } catch (MessagingException ex) {
+            log.debug("Could not close SMTP connection", ex);
+        }
+    }
+
+    private static final class PooledTransport {
+        private final Transport transport;
+        private volatile long lastUsedNanos = System.nanoTime();
+        private int messagesSent;
+
+        private PooledTransport(Transport transport) {
+            this.transport = transport;
+        }
+
+        Transport transport() {
+            return transport;
+        }
+
+        int messagesSent() {
+            return messagesSent;
+        }
+
+        void countSent() {
+            messagesSent++;
+        }
+
+        void touch() {
+            lastUsedNanos = System.nanoTime();
+        }
+
+        boolean idleLongerThan(Duration duration) {
+            return System.nanoTime() - lastUsedNanos > duration.toNanos();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.sj.voicebook.global.mail.template;
+
+import org.springframework.web.util.HtmlUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 미리 컴파일된 이메일 템플릿
+ * 본문을 UTF-8로 인코딩된 고정 구간(literal)과 값이 들어갈 자리(slot)로 나누어 두고,
+ * 렌더링 시에는 필요한 크기의 배열을 한 번 할당해 순서대로 복사만 한다.
+ */
+public final class CompiledEmailTemplate {
+
+    private static final Pattern SLOT_PATTERN = Pattern.compile("\\{\\{\\s*([A-Za-z0-9_]+)\\s*}}");
+
+    private final byte[][] literals;
+    private final String[] slotNames;
+    private final int literalLength;
+    private final String encodedSubject;
+    // slot이 없는 템플릿은 본문이 항상 같으므로 그대로 재사용
+    private final byte[] staticBody;
+
+    private CompiledEmailTemplate(byte[][] literals, String[] slotNames, String encodedSubject) {
+        this.literals = literals;
+        this.slotNames = slotNames;
+        this.encodedSubject = encodedSubject;
+
+        int length = 0;
+        for (byte[] literal : literals) {
+            length += literal.length;
+        }
+        this.literalLength = length;
+        this.staticBody = slotNames.length == 0 ? literals[0] : null;
+    }
+
+    /**
+     * 템플릿 원문을 literal/slot 구간으로 컴파일
+     * 원문에 선언되지 않은 slot이 있거나 선언된 slot이 빠져 있으면 예외를 던진다.
+     */
+    public static CompiledEmailTemplate compile(String source, List<String> declaredSlots, String encodedSubject) {
+        List<byte[]> literals = new ArrayList<>();
+        List<String> slotNames = new ArrayList<>();
+
+        Matcher matcher = SLOT_PATTERN.matcher(source);
+        int position = 0;
+        while (matcher.find()) {
+            String slotName = matcher.group(1);
+            if (!declaredSlots.contains(slotName)) {
+                throw new IllegalArgumentException("Undeclared template slot: " + slotName);
+            }
+            literals.add(source.substring(position, matcher.start()).getBytes(StandardCharsets.UTF_8));
+            slotNames.add(slotName);
+            position = matcher.end();
+        }
+        literals.add(source.substring(position).getBytes(StandardCharsets.UTF_8));
+
+        if (!slotNames.containsAll(declaredSlots)) {
+            throw new IllegalArgumentException("Template is missing slots: " + declaredSlots);
+        }
+
+        return new CompiledEmailTemplate(
+                literals.toArray(byte[][]::new),
+                slotNames.toArray(String[]::new),
+                encodedSubject
+        );
+    }
+
+    /**
+     * 본문 렌더링 - slot 값은 HTML escape 후 UTF-8로 채워진다.
+     */
+    public byte[] render(Map<String, String> values) {
+        if (staticBody != null) {
+            return staticBody;
+        }
+
+        byte[][] slotValues = new byte[slotNames.length][];
+        int length = literalLength;
+        for (int i = 0; i < slotNames.length; i++) {
+            String value = values.get(slotNames[i]);
+            if (value == null) {
+                throw new IllegalArgumentException("Missing template value: " + slotNames[i]);
+            }
+            slotValues[i] = HtmlUtils.htmlEscape(value, StandardCharsets.UTF_8.name()).getBytes(StandardCharsets.UTF_8);
+            length += slotValues[i].length;
+        }
+
+        byte[] body = new byte[length];
+        int offset = 0;
+        for (int i = 0; i < slotValues.length; i++) {
+            System.arraycopy(literals[i], 0, body, offset, literals[i].length);
+            offset += literals[i].length;
+            System.arraycopy(slotValues[i], 0, body, offset, slotValues[i].length);
+            offset += slotValues[i].length;
+        }
+        byte[] last = literals[literals.length - 1];
+        System.arraycopy(last, 0, body, offset, last.length);
+        return body;
+    }
+
+    /**
+     * RFC 2047로 미리 인코딩된 제목
+     */
+    public String encodedSubject() {
+        return encodedSubject;
+    }
+}
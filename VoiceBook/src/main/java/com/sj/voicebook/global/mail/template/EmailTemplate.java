@@ -0,0 +1,29 @@
+package com.sj.voicebook.global.mail.template;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 이메일 템플릿 목록
+ * 본문은 classpath:templates/email/{fileName} 에 있으며 {{slot}} 자리에 값이 들어간다.
+ */
+@Getter
+public enum EmailTemplate {
+    VERIFICATION_CODE("verification-code.html", "[말로쓴책] 이메일 인증 코드입니다.",
+            List.of("code", "expireMinutes")),
+    ANSWER_REMINDER("answer-reminder.html", "[말로쓴책] 오늘의 이야기를 들려주세요.",
+            List.of("nickname", "question")),
+    FAMILY_INVITATION("family-invitation.html", "[말로쓴책] 가족 초대가 도착했습니다.",
+            List.of("inviterNickname", "inviteUrl"));
+
+    private final String fileName;
+    private final String subject;
+    private final List<String> slots;
+
+    EmailTemplate(String fileName, String subject, List<String> slots) {
+        this.fileName = fileName;
+        this.subject = subject;
+        this.slots = slots;
+    }
+}
@@ -0,0 +1,79 @@
+package com.sj.voicebook.global.mail.template;
+
+import jakarta.activation.DataHandler;
+import jakarta.annotation.PostConstruct;
+import jakarta.mail.Message;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.AddressException;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+import jakarta.mail.internet.MimeUtility;
+import jakarta.mail.util.ByteArrayDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 애플리케이션 시작 시 모든 이메일 템플릿을 한 번만 컴파일하고,
+ * 전송 시에는 컴파일된 템플릿으로 MimeMessage를 만든다.
+ * 런타임에는 템플릿 파싱이나 본문 재인코딩(MimeMessageHelper)을 하지 않는다.
+ */
+@Slf4j
+@Component
+public class EmailTemplateEngine {
+
+    private static final String TEMPLATE_LOCATION = "templates/email/";
+    private static final String CONTENT_TYPE = "text/html; charset=UTF-8";
+
+    private final JavaMailSender javaMailSender;
+    private final InternetAddress sender;
+    private final Map<EmailTemplate, CompiledEmailTemplate> templates = new EnumMap<>(EmailTemplate.class);
+
+    public EmailTemplateEngine(
+            JavaMailSender javaMailSender,
+            @Value("${spring.mail.username}") String senderEmail
+    ) throws AddressException {
+        this.javaMailSender = javaMailSender;
+        this.sender = new InternetAddress(senderEmail);
+    }
+
+    @PostConstruct
+    void compileTemplates() {
+        for (EmailTemplate template : EmailTemplate.values()) {
+            try {
+                String source = new ClassPathResource(TEMPLATE_LOCATION + template.getFileName())
+                        .getContentAsString(StandardCharsets.UTF_8);
+                // 제목은 고정값이므로 RFC 2047 인코딩 결과를 미리 만들어 둔다.
+                String encodedSubject = MimeUtility.encodeText(template.getSubject(), StandardCharsets.UTF_8.name(), "B");
+                templates.put(template, CompiledEmailTemplate.compile(source, template.getSlots(), encodedSubject));
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to load email template: " + template.getFileName(), e);
+            }
+        }
+        log.info("Compiled {} email templates", templates.size());
+    }
+
+    /**
+     * 컴파일된 템플릿으로 전송할 메시지 생성
+     */
+    public MimeMessage createMessage(EmailTemplate template, String toEmail, Map<String, String> values)
+            throws MessagingException {
+        CompiledEmailTemplate compiled = templates.get(template);
+
+        MimeMessage mimeMessage = javaMailSender.createMimeMessage();
+        mimeMessage.setFrom(sender);
+        mimeMessage.setRecipient(Message.RecipientType.TO, new InternetAddress(toEmail));
+        mimeMessage.setHeader("Subject", compiled.encodedSubject());
+        mimeMessage.setDataHandler(new DataHandler(new ByteArrayDataSource(compiled.render(values), CONTENT_TYPE)));
+        // 전송 인코딩을 고정해 saveChanges() 시 본문 전체를 다시 검사하지 않도록 함
+        mimeMessage.setHeader("Content-Transfer-Encoding", "base64");
+        return mimeMessage;
+    }
+}
@@ -0,0 +1,50 @@
+package com.sj.voicebook.global.ratelimit;
+
+/**
+ * 프로세스 내부에서만 사용하는 token bucket
+ * capacity 만큼 한 번에 몰아서 쓸 수 있고, 초당 refillPerSecond 개씩 다시 채워진다.
+ */
+public class LocalTokenBucket {
+
+    private final double capacity;
+    private final double refillPerNano;
+    private double tokens;
+    private long lastRefillNanos;
+
+    public LocalTokenBucket(double capacity, double refillPerSecond) {
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / 1_000_000_000d;
+        this.tokens = capacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * 토큰 1개 사용 시도
+     */
+    public synchronized boolean tryConsume() {
+        return tryConsume(1) == 1;
+    }
+
+    /**
+     * 최대 requested 개까지 사용하고 실제로 사용한 개수를 반환
+     */
+    public synchronized int tryConsume(int requested) {
+        refill();
+        int granted = (int) Math.min(requested, Math.floor(tokens));
+        tokens -= granted;
+        return granted;
+    }
+
+    /**
+     * 사용하지 않은 토큰 반환
+     */
+    public synchronized void refund(int unused) {
+        tokens = Math.min(capacity, tokens + unused);
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * refillPerNano);
+        lastRefillNanos = now;
+    }
+}
@@ -0,0 +1,20 @@
+package com.sj.voicebook.global.ratelimit;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 요청 제한을 적용하는 엔드포인트 - name은 rate-limit.policies 설정 키
+ */
+@Getter
+@RequiredArgsConstructor
+public enum RateLimitPolicy {
+    EMAIL_SEND("email-send", "인증 코드 전송"),
+    LOGIN("login", "로그인"),
+    REFRESH("refresh", "토큰 재발급"),
+    PROFILE_IMAGE_UPLOAD("profile-image-upload", "프로필 이미지 업로드 URL 발급"),
+    PROFILE_IMAGE_VIEW("profile-image-view", "프로필 이미지 조회 URL 발급");
+
+    private final String name;
+    private final String description;
+}
@@ -0,0 +1,29 @@
+package com.sj.voicebook.global.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.Map;
+
+/**
+ * 엔드포인트별 요청 제한 설정
+ * 설정되지 않은 정책이나 차원(per-ip, per-account)은 제한하지 않는다.
+ */
+@ConfigurationProperties(prefix = "rate-limit")
+public record RateLimitProperties(
+        boolean enabled,
+        Map<String, Policy> policies
+) {
+
+    public RateLimitProperties {
+        policies = policies == null ? Map.of() : policies;
+    }
+
+    public record Policy(Bucket perIp, Bucket perAccount) {
+    }
+
+    /**
+     * capacity 만큼 몰아서 요청할 수 있고, 초당 refillPerSecond 개씩 다시 허용된다.
+     */
+    public record Bucket(double capacity, double refillPerSecond) {
+    }
+}
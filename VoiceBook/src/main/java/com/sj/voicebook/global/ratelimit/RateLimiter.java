@@ -0,0 +1,123 @@
+package com.sj.voicebook.global.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sj.voicebook.global.exception.BusinessException;
+import com.sj.voicebook.global.exception.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * IP별/계정별 token bucket 요청 제한
+ * 1. 노드 로컬 버킷으로 한 노드에 몰리는 명백한 폭주는 Redis 왕복 없이 거절한다.
+ * 2. 통과한 요청은 Redis에 있는 전역 버킷 전체를 Lua 스크립트 한 번으로 확인/차감한다.
+ * Redis 장애 시에는 로컬 제한만 적용하고 요청을 허용한다.
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+
+    private static final String KEY_PREFIX = "rate:";
+    private static final RedisScript<Long> TOKEN_BUCKET_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/redis/token-bucket.lua"), Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RateLimitProperties rateLimitProperties;
+    private final MeterRegistry meterRegistry;
+
+    // 로컬 버킷 - 한동안 요청이 없는 키는 제거 (다시 생기면 가득 찬 상태로 시작)
+    private final Cache<String, LocalTokenBucket> localBuckets = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterAccess(Duration.ofMinutes(10))
+            .build();
+
+    public RateLimiter(
+            StringRedisTemplate stringRedisTemplate,
+            RateLimitProperties rateLimitProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.rateLimitProperties = rateLimitProperties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 요청 1건 허용 여부 확인 - 초과 시 TOO_MANY_REQUESTS
+     * @param clientIp 요청 IP - 로드밸런서 뒤에서는 server.forward-headers-strategy로 복원된 클라이언트 IP
+     * @param account 계정 식별자(이메일 등), 없으면 null
+     */
+    public void acquire(RateLimitPolicy policy, String clientIp, String account) {
+        RateLimitProperties.Policy config = rateLimitProperties.policies().get(policy.getName());
+        if (!rateLimitProperties.enabled() || config == null) {
+            return;
+        }
+
+        List<String> keys = new ArrayList<>(2);
+        List<RateLimitProperties.Bucket> buckets = new ArrayList<>(2);
+        if (config.perIp() != null && clientIp != null) {
+            keys.add(KEY_PREFIX + policy.getName() + ":ip:" + clientIp);
+            buckets.add(config.perIp());
+        }
+        if (config.perAccount() != null && account != null) {
+            keys.add(KEY_PREFIX + policy.getName() + ":account:" + account.trim().toLowerCase(Locale.ROOT));
+            buckets.add(config.perAccount());
+        }
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        // 거절된 요청은 어떤 버킷에서도 차감하지 않는다 (Lua 스크립트와 같은 규칙).
+        List<LocalTokenBucket> consumed = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            RateLimitProperties.Bucket bucket = buckets.get(i);
+            LocalTokenBucket localBucket = localBuckets.get(keys.get(i),
+                    key -> new LocalTokenBucket(bucket.capacity(), bucket.refillPerSecond()));
+            if (!localBucket.tryConsume()) {
+                refund(consumed);
+                reject(policy, "local");
+            }
+            consumed.add(localBucket);
+        }
+
+        Long retryAfterMillis;
+        try {
+            retryAfterMillis = stringRedisTemplate.execute(TOKEN_BUCKET_SCRIPT, keys, toArgs(buckets));
+        } catch (DataAccessException e) {
+            log.warn("Rate limit check skipped for policy {}: {}", policy.getName(), e.getMessage());
+            return;
+        }
+
+        if (retryAfterMillis != null && retryAfterMillis > 0) {
+            refund(consumed);
+            reject(policy, "redis");
+        }
+    }
+
+    private static void refund(List<LocalTokenBucket> consumed) {
+        consumed.forEach(bucket -> bucket.refund(1));
+    }
+
+    private Object[] toArgs(List<RateLimitProperties.Bucket> buckets) {
+        Object[] args = new Object[buckets.size() * 2];
+        for (int i = 0; i < buckets.size(); i++) {
+            args[2 * i] = String.valueOf(buckets.get(i).capacity());
+            args[2 * i + 1] = String.valueOf(buckets.get(i).refillPerSecond());
+        }
+        return args;
+    }
+
+    private void reject(RateLimitPolicy policy, String stage) {
+        meterRegistry.counter("rate.limit.rejections", "policy", policy.getName(), "stage", stage).increment();
+        throw new BusinessException(ErrorCode.TOO_MANY_REQUESTS);
+    }
+}
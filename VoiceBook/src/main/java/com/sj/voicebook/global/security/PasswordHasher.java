@@ -0,0 +1,99 @@
+package com.sj.voicebook.global.security;
+
+import com.sj.voicebook.global.exception.BusinessException;
+import com.sj.voicebook.global.exception.ErrorCode;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 비밀번호 해싱/검증을 전용 executor에서 실행
+ * Tomcat 요청 스레드가 BCrypt 연산에 묶이지 않도록 하고,
+ * 대기열이 가득 차면 기다리지 않고 SERVER_BUSY로 즉시 실패한다.
+ */
+@Slf4j
+@Component
+public class PasswordHasher {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolTaskExecutor passwordHashExecutor;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+
+    public PasswordHasher(
+            PasswordEncoder passwordEncoder,
+            @Qualifier("passwordHashExecutor") ThreadPoolTaskExecutor passwordHashExecutor,
+            MeterRegistry meterRegistry
+    ) {
+        this.passwordEncoder = passwordEncoder;
+        this.passwordHashExecutor = passwordHashExecutor;
+        this.encodeTimer = Timer.builder("password.hash.duration")
+                .tag("operation", "encode")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("password.hash.duration")
+                .tag("operation", "matches")
+                .register(meterRegistry);
+        Gauge.builder("password.hash.queue.depth", passwordHashExecutor,
+                        executor -> executor.getThreadPoolExecutor().getQueue().size())
+                .register(meterRegistry);
+    }
+
+    /**
+     * 비밀번호 해싱 (결과를 기다림)
+     */
+    public String encode(String rawPassword) {
+        return await(encodeAsync(rawPassword));
+    }
+
+    /**
+     * 비밀번호 해싱 (비동기)
+     */
+    public CompletableFuture<String> encodeAsync(String rawPassword) {
+        return submit(() -> passwordEncoder.encode(rawPassword), encodeTimer);
+    }
+
+    /**
+     * 비밀번호 검증 (결과를 기다림)
+     */
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return await(submit(() -> passwordEncoder.matches(rawPassword, encodedPassword), matchesTimer));
+    }
+
+    /**
+     * 현재 설정된 work factor보다 낮은 cost로 저장된 해시인지 확인
+     */
+    public boolean needsRehash(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> CompletableFuture<T> submit(Callable<T> task, Timer timer) {
+        try {
+            return passwordHashExecutor.submitCompletable(() -> timer.recordCallable(task));
+        } catch (TaskRejectedException e) {
+            log.warn("Password hash queue is full (depth: {})",
+                    passwordHashExecutor.getThreadPoolExecutor().getQueue().size());
+            throw new BusinessException(ErrorCode.SERVER_BUSY);
+        }
+    }
+
+    private <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+}
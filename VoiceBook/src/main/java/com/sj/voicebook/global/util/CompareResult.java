@@ -0,0 +1,28 @@
+package com.sj.voicebook.global.util;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Redis compare 스크립트 실행 결과
+ */
+@Getter
+@RequiredArgsConstructor
+public enum CompareResult {
+    MATCHED(1L, "일치"),
+    MISMATCHED(0L, "불일치"),
+    NOT_FOUND(-1L, "키 없음"),
+    ATTEMPTS_EXCEEDED(-2L, "시도 횟수 초과");
+
+    private final long code;
+    private final String description;
+
+    static CompareResult of(Long code) {
+        for (CompareResult result : values()) {
+            if (code != null && result.code == code) {
+                return result;
+            }
+        }
+        throw new IllegalStateException("Unknown compare script result: " + code);
+    }
+}
@@ -1,18 +1,51 @@
 package com.sj.voicebook.global.util;
 
 
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.SetArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.codec.StringCodec;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.core.types.Expiration;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 @Component
 @RequiredArgsConstructor
 public class RedisUtil {
 
+    // 한 번의 pipeline으로 보낼 최대 명령 수 (응답 버퍼 크기 제한)
+    private static final int PIPELINE_CHUNK_SIZE = 1000;
+
+    // 비교와 변경을 서버에서 원자적으로 수행하는 Lua 스크립트 (EVALSHA로 실행)
+    private static final RedisScript<Long> COMPARE_AND_DELETE_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/redis/compare-and-delete.lua"), Long.class);
+    private static final RedisScript<Long> COMPARE_AND_SWAP_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/redis/compare-and-swap.lua"), Long.class);
+
     private final StringRedisTemplate stringRedisTemplate;
+    private final LettuceConnectionFactory lettuceConnectionFactory;
+
+    // 비동기 명령용 공유 커넥션 - Lettuce 커넥션은 thread-safe 하므로 하나를 멀티플렉싱한다.
+    private volatile StatefulRedisConnection<String, String> asyncConnection;
 
     // Key(이메일), Value(인증번호), 유효시간(분)
     public void setDataExpire(String key, String value, long duration) {
@@ -29,4 +62,129 @@ public class RedisUtil {
     public void deleteData(String key) {
         stringRedisTemplate.delete(key);
     }
-}
\ No newline at end of file
+
+    /**
+     * 여러 키를 MGET 한 번으로 조회 - 값이 없는 키는 결과에서 제외된다.
+     */
+    public Map<String, String> multiGet(Collection<String> keys) {
+        Map<String, String> result = new LinkedHashMap<>();
+        if (keys.isEmpty()) {
+            return result;
+        }
+
+        List<String> keyList = List.copyOf(keys);
+        List<String> values = stringRedisTemplate.opsForValue().multiGet(keyList);
+        if (values == null) {
+            return result;
+        }
+        for (int i = 0; i < keyList.size(); i++) {
+            if (values.get(i) != null) {
+                result.put(keyList.get(i), values.get(i));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 여러 키를 같은 유효시간(분)으로 저장 - PIPELINE_CHUNK_SIZE 단위 pipeline으로 전송
+     */
+    public void multiSetExpire(Map<String, String> entries, long duration) {
+        Expiration expiration = Expiration.from(Duration.ofMinutes(duration));
+        List<Map.Entry<String, String>> entryList = new ArrayList<>(entries.entrySet());
+
+        for (int from = 0; from < entryList.size(); from += PIPELINE_CHUNK_SIZE) {
+            List<Map.Entry<String, String>> chunk =
+                    entryList.subList(from, Math.min(from + PIPELINE_CHUNK_SIZE, entryList.size()));
+            executePipelined(connection -> chunk.forEach(entry ->
+                    connection.set(entry.getKey(), entry.getValue(), expiration, SetOption.upsert())));
+        }
+    }
+
+    /**
+     * 여러 키 삭제 - DEL 한 번으로 처리
+     */
+    public long multiDelete(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        Long deleted = stringRedisTemplate.delete(keys);
+        return deleted == null ? 0 : deleted;
+    }
+
+    /**
+     * 여러 명령을 한 번의 왕복으로 전송하고 명령 순서대로 결과를 반환
+     * 콜백 안에서 connection 메서드의 반환값은 항상 null이며, 결과는 반환 리스트로만 확인한다.
+     */
+    public List<Object> executePipelined(Consumer<StringRedisConnection> commands) {
+        return stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            commands.accept((StringRedisConnection) connection);
+            return null;
+        });
+    }
+
+    /**
+     * 값이 expected와 같으면 삭제 - 비교, 실패 횟수 증가, 삭제를 한 번의 왕복으로 원자적으로 처리
+     * 실패 횟수는 attemptsKey에 값과 같은 TTL로 저장되며, maxAttempts에 도달하면 값도 함께 삭제된다.
+     */
+    public CompareResult compareAndDelete(String key, String expected, String attemptsKey, int maxAttempts) {
+        Long result = stringRedisTemplate.execute(
+                COMPARE_AND_DELETE_SCRIPT,
+                List.of(key, attemptsKey),
+                expected, String.valueOf(maxAttempts)
+        );
+        return CompareResult.of(result);
+    }
+
+    /**
+     * 값이 expected와 같을 때만 newValue로 교체하고 유효시간(분)을 새로 설정
+     */
+    public CompareResult compareAndSwap(String key, String expected, String newValue, long duration) {
+        Long result = stringRedisTemplate.execute(
+                COMPARE_AND_SWAP_SCRIPT,
+                List.of(key),
+                expected, newValue, String.valueOf(Duration.ofMinutes(duration).toMillis())
+        );
+        return CompareResult.of(result);
+    }
+
+    public CompletableFuture<String> getDataAsync(String key) {
+        return async().get(key).toCompletableFuture();
+    }
+
+    public CompletableFuture<String> setDataExpireAsync(String key, String value, long duration) {
+        return async().set(key, value, SetArgs.Builder.ex(Duration.ofMinutes(duration))).toCompletableFuture();
+    }
+
+    public CompletableFuture<Long> deleteDataAsync(String key) {
+        return async().del(key).toCompletableFuture();
+    }
+
+    private RedisAsyncCommands<String, String> async() {
+        StatefulRedisConnection<String, String> connection = asyncConnection;
+        if (connection == null) {
+            synchronized (this) {
+                connection = asyncConnection;
+                if (connection == null) {
+                    connection = connectAsync();
+                    asyncConnection = connection;
+                }
+            }
+        }
+        return connection.async();
+    }
+
+    private StatefulRedisConnection<String, String> connectAsync() {
+        if (!(lettuceConnectionFactory.getNativeClient() instanceof RedisClient redisClient)) {
+            throw new IllegalStateException("Async Redis commands require a standalone Lettuce client");
+        }
+        return redisClient.connect(StringCodec.UTF8);
+    }
+
+    @PreDestroy
+    public void closeAsyncConnection() {
+        StatefulRedisConnection<String, String> connection = asyncConnection;
+        if (connection != null) {
+            connection.close();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.sj.voicebook.interview.controller;
+
+import com.sj.voicebook.global.ApiResponse;
+import com.sj.voicebook.interview.dto.api.DraftAnswerRequest;
+import com.sj.voicebook.interview.dto.api.InterviewContextResponse;
+import com.sj.voicebook.interview.dto.api.RecordAnswerRequest;
+import com.sj.voicebook.interview.dto.api.RecordAnswerResponse;
+import com.sj.voicebook.interview.service.InterviewService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/interviews")
+public class InterviewController {
+
+    private final InterviewService interviewService;
+
+    /**
+     * 초안 전사 전달 - 다음 질문을 미리 생성하기 시작한다.
+     */
+    @PostMapping("/drafts")
+    public ResponseEntity<ApiResponse<Void>> submitDraft(
+            @AuthenticationPrincipal Long userId,
+            @Valid @RequestBody DraftAnswerRequest request) {
+        interviewService.submitDraft(userId, request.question(), request.draftAnswer());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(ApiResponse.success());
+    }
+
+    /**
+     * 확정된 답변 저장 - 응답에 다음 질문이 포함된다.
+     */
+    @PostMapping("/answers")
+    public ResponseEntity<ApiResponse<RecordAnswerResponse>> recordAnswer(
+            @AuthenticationPrincipal Long userId,
+            @Valid @RequestBody RecordAnswerRequest request) {
+        RecordAnswerResponse response = interviewService.recordAnswer(userId, request.question(), request.answer());
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success(response, "답변이 저장되었습니다."));
+    }
+
+    @GetMapping("/context")
+    public ResponseEntity<ApiResponse<InterviewContextResponse>> getContext(@AuthenticationPrincipal Long userId) {
+        return ResponseEntity.ok(ApiResponse.success(InterviewContextResponse.from(interviewService.getContext(userId))));
+    }
+}
@@ -0,0 +1,52 @@
+package com.sj.voicebook.interview.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인터뷰에서 확정된 질문/답변 한 쌍 - 대화 기록의 원본
+ * 질문 생성에 쓰는 문맥은 InterviewContextStore(Redis)에서 조립한다.
+ */
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@EntityListeners(AuditingEntityListener.class)
+@Table(
+        name = "interview_turns",
+        indexes = @Index(name = "idx_interview_turns_user_id", columnList = "userId, id")
+)
+public class InterviewTurn {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false, columnDefinition = "text")
+    private String question;
+
+    @Column(nullable = false, columnDefinition = "text")
+    private String answer;
+
+    @CreatedDate
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+
+    private InterviewTurn(Long userId, String question, String answer) {
+        this.userId = userId;
+        this.question = question;
+        this.answer = answer;
+    }
+
+    public static InterviewTurn create(Long userId, String question, String answer) {
+        return new InterviewTurn(userId, question, answer);
+    }
+}
@@ -0,0 +1,15 @@
+package com.sj.voicebook.interview.dto.api;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+public record DraftAnswerRequest(
+        @NotBlank(message = "질문은 필수입니다")
+        @Size(max = 1000, message = "질문은 1000자 이하여야 합니다")
+        String question,
+
+        @NotBlank(message = "초안 답변은 필수입니다")
+        @Size(max = 20000, message = "답변은 20000자 이하여야 합니다")
+        String draftAnswer
+) {
+}
@@ -0,0 +1,13 @@
+package com.sj.voicebook.interview.dto.api;
+
+import com.sj.voicebook.interview.dto.application.ContextTurn;
+import com.sj.voicebook.interview.dto.application.InterviewContext;
+
+import java.util.List;
+
+public record InterviewContextResponse(String digest, List<ContextTurn> recentTurns, long totalTurns) {
+
+    public static InterviewContextResponse from(InterviewContext context) {
+        return new InterviewContextResponse(context.digest(), context.recentTurns(), context.totalTurns());
+    }
+}
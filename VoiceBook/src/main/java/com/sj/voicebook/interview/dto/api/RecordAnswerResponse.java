@@ -0,0 +1,7 @@
+package com.sj.voicebook.interview.dto.api;
+
+/**
+ * nextQuestion은 생성에 실패하면 null - 클라이언트는 다시 요청할 수 있다.
+ */
+public record RecordAnswerResponse(Long turnId, String nextQuestion) {
+}
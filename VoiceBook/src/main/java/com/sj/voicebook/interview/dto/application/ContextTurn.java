@@ -0,0 +1,7 @@
+package com.sj.voicebook.interview.dto.application;
+
+/**
+ * 문맥 창에 들어가는 turn - answeredAt은 epoch seconds
+ */
+public record ContextTurn(long turnId, String question, String answer, long answeredAt) {
+}
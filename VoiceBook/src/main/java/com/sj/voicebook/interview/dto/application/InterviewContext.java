@@ -0,0 +1,9 @@
+package com.sj.voicebook.interview.dto.application;
+
+import java.util.List;
+
+/**
+ * 다음 질문 생성에 쓰는 문맥 - 오래된 turn은 digest로 요약되고 최근 turn만 원문으로 남는다.
+ */
+public record InterviewContext(String digest, List<ContextTurn> recentTurns, long totalTurns) {
+}
@@ -0,0 +1,17 @@
+package com.sj.voicebook.interview.repository;
+
+import com.sj.voicebook.interview.domain.InterviewTurn;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface InterviewTurnRepository extends JpaRepository<InterviewTurn, Long> {
+
+    /**
+     * 최근 turn부터 - 문맥 캐시를 다시 만들 때만 사용
+     */
+    List<InterviewTurn> findByUserIdOrderByIdDesc(Long userId, Pageable pageable);
+
+    long countByUserId(Long userId);
+}
@@ -0,0 +1,73 @@
+package com.sj.voicebook.interview.service;
+
+import com.sj.voicebook.interview.dto.application.ContextTurn;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * turn 직렬화 - JSON 대신 필드 이름 없는 바이너리 형식
+ * [version][turnId varint][answeredAt varint][question 길이 varint][question UTF-8][answer 길이 varint][answer UTF-8]
+ */
+final class ContextTurnCodec {
+
+    private static final byte VERSION = 1;
+
+    private ContextTurnCodec() {
+    }
+
+    static byte[] encode(ContextTurn turn) {
+        byte[] question = turn.question().getBytes(StandardCharsets.UTF_8);
+        byte[] answer = turn.answer().getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(question.length + answer.length + 24);
+        out.write(VERSION);
+        writeVarLong(out, turn.turnId());
+        writeVarLong(out, turn.answeredAt());
+        writeVarLong(out, question.length);
+        out.writeBytes(question);
+        writeVarLong(out, answer.length);
+        out.writeBytes(answer);
+        return out.toByteArray();
+    }
+
+    static ContextTurn decode(byte[] bytes) {
+        ByteBuffer in = ByteBuffer.wrap(bytes);
+        byte version = in.get();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported turn version: " + version);
+        }
+        long turnId = readVarLong(in);
+        long answeredAt = readVarLong(in);
+        String question = readString(in);
+        String answer = readString(in);
+        return new ContextTurn(turnId, question, answer, answeredAt);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = Math.toIntExact(readVarLong(in));
+        String value = new String(in.array(), in.position(), length, StandardCharsets.UTF_8);
+        in.position(in.position() + length);
+        return value;
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarLong(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+}
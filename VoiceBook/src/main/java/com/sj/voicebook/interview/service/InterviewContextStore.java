@@ -0,0 +1,244 @@
+package com.sj.voicebook.interview.service;
+
+import com.sj.voicebook.global.util.CompareResult;
+import com.sj.voicebook.global.util.RedisUtil;
+import com.sj.voicebook.interview.domain.InterviewTurn;
+import com.sj.voicebook.interview.dto.application.ContextTurn;
+import com.sj.voicebook.interview.dto.application.InterviewContext;
+import com.sj.voicebook.interview.repository.InterviewTurnRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 인터뷰 문맥 저장소 (Redis)
+ * - 최근 turn은 바이너리로 직렬화해 list에 보관하고, turn 수/바이트 상한을 넘으면 오래된 turn부터 밀어낸다.
+ * - 밀려난 turn은 TurnDigester로 digest 문자열에 접어 넣는다.
+ * - 추가는 RPUSH + 상한 정리를 Lua 한 번으로 처리하고, 조회는 list + digest + 메타를 한 번의 pipeline으로 읽는다.
+ * 문맥 조립 비용은 창 크기에만 비례하며 전체 대화 길이와 관계없다. 캐시가 없으면 DB의 최근 turn으로 다시 만든다.
+ */
+@Slf4j
+@Component
+public class InterviewContextStore {
+
+    private static final String KEY_PREFIX = "interview:context:";
+    private static final RedisScript<List> APPEND_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/redis/append-interview-turn.lua"), List.class);
+    private static final RedisScript<Long> REBUILD_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/redis/rebuild-interview-context.lua"), Long.class);
+    private static final int DIGEST_SWAP_RETRIES = 3;
+
+    private final RedisTemplate<String, byte[]> binaryRedisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisUtil redisUtil;
+    private final InterviewTurnRepository interviewTurnRepository;
+    private final TurnDigester turnDigester;
+    private final int maxTurns;
+    private final long maxBytes;
+    private final int rebuildDigestTurns;
+    private final Duration ttl;
+
+    public InterviewContextStore(
+            @Qualifier("binaryRedisTemplate") RedisTemplate<String, byte[]> binaryRedisTemplate,
+            StringRedisTemplate stringRedisTemplate,
+            RedisUtil redisUtil,
+            InterviewTurnRepository interviewTurnRepository,
+            TurnDigester turnDigester,
+            @Value("${interview.context.max-turns:20}") int maxTurns,
+            @Value("${interview.context.max-bytes:16384}") long maxBytes,
+            @Value("${interview.context.rebuild-digest-turns:100}") int rebuildDigestTurns,
+            @Value("${interview.context.ttl:7d}") Duration ttl
+    ) {
+        this.binaryRedisTemplate = binaryRedisTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisUtil = redisUtil;
+        this.interviewTurnRepository = interviewTurnRepository;
+        this.turnDigester = turnDigester;
+        this.maxTurns = maxTurns;
+        this.maxBytes = maxBytes;
+        this.rebuildDigestTurns = rebuildDigestTurns;
+        this.ttl = ttl;
+    }
+
+    /**
+     * 확정된 turn 추가 (DB 저장 후 호출) - 실패하면 캐시를 지워 다음 조회 때 DB에서 다시 만든다.
+     */
+    public void append(Long userId, ContextTurn turn) {
+        try {
+            List<Object> result = binaryRedisTemplate.execute(APPEND_SCRIPT,
+                    List.of(windowKey(userId), metaKey(userId), digestKey(userId)),
+                    ContextTurnCodec.encode(turn),
+                    bytes(String.valueOf(maxTurns)),
+                    bytes(String.valueOf(maxBytes)),
+                    bytes(String.valueOf(ttl.toMillis())));
+            if (result == null || ((Long) result.get(0)) < 0) {
+                rebuild(userId);
+                return;
+            }
+            if (result.size() > 1) {
+                List<ContextTurn> evicted = new ArrayList<>(result.size() - 1);
+                for (Object value : result.subList(1, result.size())) {
+                    evicted.add(ContextTurnCodec.decode((byte[]) value));
+                }
+                foldIntoDigest(userId, evicted);
+            }
+        } catch (DataAccessException | IllegalArgumentException e) {
+            log.error("Failed to append interview turn, invalidating context: {}", userId, e);
+            invalidate(userId);
+        }
+    }
+
+    /**
+     * 문맥 조회 - list, digest, 메타를 한 번의 왕복으로 읽는다.
+     */
+    public InterviewContext get(Long userId) {
+        List<Object> results;
+        try {
+            results = binaryRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                connection.listCommands().lRange(bytes(windowKey(userId)), 0, -1);
+                connection.stringCommands().get(bytes(digestKey(userId)));
+                connection.hashCommands().hGet(bytes(metaKey(userId)), bytes("count"));
+                return null;
+            });
+        } catch (DataAccessException e) {
+            log.error("Failed to read interview context, loading from DB: {}", userId, e);
+            return load(userId);
+        }
+
+        Object count = results.get(2);
+        if (count == null) {
+            return rebuild(userId);
+        }
+
+        try {
+            List<ContextTurn> turns = new ArrayList<>();
+            for (Object value : (List<?>) results.get(0)) {
+                turns.add(ContextTurnCodec.decode((byte[]) value));
+            }
+            String digest = results.get(1) != null ? new String((byte[]) results.get(1), StandardCharsets.UTF_8) : "";
+            return new InterviewContext(digest, turns, Long.parseLong(new String((byte[]) count, StandardCharsets.UTF_8)));
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid interview context, rebuilding: {}", userId, e);
+            return rebuild(userId);
+        }
+    }
+
+    public void invalidate(Long userId) {
+        try {
+            binaryRedisTemplate.delete(List.of(windowKey(userId), metaKey(userId), digestKey(userId)));
+        } catch (DataAccessException e) {
+            log.error("Failed to invalidate interview context: {}", userId, e);
+        }
+    }
+
+    /**
+     * digest 갱신 - 같은 회원의 다른 노드 갱신과 겹치면 다시 읽어서 재시도한다.
+     */
+    private void foldIntoDigest(Long userId, List<ContextTurn> evicted) {
+        String key = digestKey(userId);
+        for (int attempt = 0; attempt < DIGEST_SWAP_RETRIES; attempt++) {
+            String current = redisUtil.getData(key);
+            String folded = turnDigester.fold(current, evicted);
+            if (current == null) {
+                if (Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(key, folded, ttl))) {
+                    return;
+                }
+                continue;
+            }
+            if (redisUtil.compareAndSwap(key, current, folded, ttl.toMinutes()) == CompareResult.MATCHED) {
+                return;
+            }
+        }
+        log.warn("Interview digest update conflicted, invalidating context: {}", userId);
+        invalidate(userId);
+    }
+
+    /**
+     * 캐시가 없을 때 DB의 최근 turn으로 다시 만든다 - 창에 들어가지 않는 turn 중 최근 rebuildDigestTurns 건만 digest로 요약한다.
+     * 여러 노드가 동시에 다시 만들 때 먼저 읽은 오래된 내용이 나중에 쓰이지 않도록,
+     * 캐시의 turn 수가 읽은 turn 수 이상이면 쓰지 않는다.
+     */
+    private InterviewContext rebuild(Long userId) {
+        InterviewContext context = load(userId);
+        List<byte[]> encoded = context.recentTurns().stream().map(ContextTurnCodec::encode).toList();
+        long windowBytes = encoded.stream().mapToLong(value -> value.length).sum();
+
+        List<byte[]> args = new ArrayList<>(encoded.size() + 4);
+        args.add(bytes(String.valueOf(context.totalTurns())));
+        args.add(bytes(String.valueOf(windowBytes)));
+        args.add(bytes(String.valueOf(ttl.toMillis())));
+        args.add(bytes(context.digest()));
+        args.addAll(encoded);
+        try {
+            binaryRedisTemplate.execute(REBUILD_SCRIPT,
+                    List.of(windowKey(userId), metaKey(userId), digestKey(userId)),
+                    args.toArray());
+        } catch (DataAccessException e) {
+            log.error("Failed to rebuild interview context: {}", userId, e);
+        }
+        return context;
+    }
+
+    private InterviewContext load(Long userId) {
+        List<InterviewTurn> recent = interviewTurnRepository.findByUserIdOrderByIdDesc(
+                userId, PageRequest.of(0, maxTurns + rebuildDigestTurns));
+
+        List<ContextTurn> window = new ArrayList<>();
+        List<ContextTurn> older = new ArrayList<>();
+        long bytes = 0;
+        for (InterviewTurn turn : recent) {
+            ContextTurn contextTurn = toContextTurn(turn);
+            long size = ContextTurnCodec.encode(contextTurn).length;
+            boolean fits = window.isEmpty() || (window.size() < maxTurns && bytes + size <= maxBytes);
+            if (older.isEmpty() && fits) {
+                window.add(contextTurn);
+                bytes += size;
+            } else {
+                older.add(contextTurn);
+            }
+        }
+        Collections.reverse(window);
+        Collections.reverse(older);
+
+        String digest = older.isEmpty() ? "" : turnDigester.fold("", older);
+        return new InterviewContext(digest, window, interviewTurnRepository.countByUserId(userId));
+    }
+
+    static ContextTurn toContextTurn(InterviewTurn turn) {
+        long answeredAt = turn.getCreatedAt() != null
+                ? turn.getCreatedAt().atZone(ZoneId.systemDefault()).toEpochSecond()
+                : 0;
+        return new ContextTurn(turn.getId(), turn.getQuestion(), turn.getAnswer(), answeredAt);
+    }
+
+    private static String windowKey(Long userId) {
+        return KEY_PREFIX + userId + ":window";
+    }
+
+    private static String metaKey(Long userId) {
+        return KEY_PREFIX + userId + ":meta";
+    }
+
+    private static String digestKey(Long userId) {
+        return KEY_PREFIX + userId + ":digest";
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,47 @@
+package com.sj.voicebook.interview.service;
+
+import com.sj.voicebook.interview.domain.InterviewTurn;
+import com.sj.voicebook.interview.dto.api.RecordAnswerResponse;
+import com.sj.voicebook.interview.dto.application.InterviewContext;
+import com.sj.voicebook.interview.repository.InterviewTurnRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class InterviewService {
+
+    private final InterviewTurnRepository interviewTurnRepository;
+    private final InterviewContextStore interviewContextStore;
+    private final NextQuestionPrefetcher nextQuestionPrefetcher;
+
+    /**
+     * 초안 전사 도착 - 부모님이 확인하는 동안 다음 질문을 미리 생성
+     */
+    public void submitDraft(Long userId, String question, String draftAnswer) {
+        nextQuestionPrefetcher.speculate(userId, interviewContextStore.get(userId), question, draftAnswer);
+    }
+
+    /**
+     * 확정된 답변 저장 후 다음 질문 반환 - DB에 먼저 저장한 뒤 문맥 창에 추가한다.
+     */
+    public RecordAnswerResponse recordAnswer(Long userId, String question, String answer) {
+        InterviewContext context = interviewContextStore.get(userId);
+        InterviewTurn turn = interviewTurnRepository.save(InterviewTurn.create(userId, question, answer));
+        interviewContextStore.append(userId, InterviewContextStore.toContextTurn(turn));
+
+        String nextQuestion = null;
+        try {
+            nextQuestion = nextQuestionPrefetcher.resolve(userId, context, question, answer);
+        } catch (RuntimeException e) {
+            log.error("Failed to generate next question (user: {})", userId, e);
+        }
+        return new RecordAnswerResponse(turn.getId(), nextQuestion);
+    }
+
+    public InterviewContext getContext(Long userId) {
+        return interviewContextStore.get(userId);
+    }
+}
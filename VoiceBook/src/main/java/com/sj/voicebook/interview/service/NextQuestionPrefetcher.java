@@ -0,0 +1,141 @@
+package com.sj.voicebook.interview.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import com.sj.voicebook.global.exception.BusinessException;
+import com.sj.voicebook.global.exception.ErrorCode;
+import com.sj.voicebook.interview.dto.application.InterviewContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 다음 질문 선제 생성
+ * 초안 전사가 나오면 부모님이 전사를 확인하는 동안 다음 질문을 미리 만들어 두고,
+ * 수정 없이 확정되면 그 결과를 쓰고, 수정되었으면 취소한 뒤 다시 만든다.
+ * - 회원당 진행 중인 선제 생성은 하나이며, 새 초안이 오면 이전 것은 취소된다.
+ * - 선제 생성은 전용 executor에서만 실행되어 동시 실행 수가 제한되고, 취소 시 interrupt로 바로 중단된다.
+ * - max-age가 지나도록 확정되지 않은 선제 생성은 버린다.
+ * interview.prefetch{result=hit|miss|discarded|skipped} 로 적중률을 확인해 조정한다.
+ */
+@Slf4j
+@Component
+public class NextQuestionPrefetcher {
+
+    private final QuestionGenerator questionGenerator;
+    private final Executor questionPrefetchExecutor;
+    private final Duration resolveTimeout;
+    private final Cache<Long, Speculation> speculations;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter discardedCounter;
+    private final Counter skippedCounter;
+
+    public NextQuestionPrefetcher(
+            QuestionGenerator questionGenerator,
+            @Qualifier("questionPrefetchExecutor") Executor questionPrefetchExecutor,
+            MeterRegistry meterRegistry,
+            @Value("${interview.prefetch.max-age:10m}") Duration maxAge,
+            @Value("${interview.prefetch.max-entries:10000}") long maxEntries,
+            @Value("${interview.prefetch.resolve-timeout:20s}") Duration resolveTimeout
+    ) {
+        this.questionGenerator = questionGenerator;
+        this.questionPrefetchExecutor = questionPrefetchExecutor;
+        this.resolveTimeout = resolveTimeout;
+        this.speculations = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(maxAge)
+                .scheduler(Scheduler.systemScheduler())
+                .removalListener((Long userId, Speculation speculation, RemovalCause cause) -> {
+                    // 새 초안으로 교체, 만료, 용량 초과 - 확정/수정 시 제거(EXPLICIT)는 resolve에서 처리
+                    if (speculation != null && cause != RemovalCause.EXPLICIT) {
+                        discard(speculation);
+                    }
+                })
+                .build();
+        this.hitCounter = meterRegistry.counter("interview.prefetch", "result", "hit");
+        this.missCounter = meterRegistry.counter("interview.prefetch", "result", "miss");
+        this.discardedCounter = meterRegistry.counter("interview.prefetch", "result", "discarded");
+        this.skippedCounter = meterRegistry.counter("interview.prefetch", "result", "skipped");
+    }
+
+    /**
+     * 초안 답변으로 다음 질문 생성을 시작 - 같은 초안이 이미 진행 중이면 그대로 둔다.
+     */
+    public void speculate(Long userId, InterviewContext context, String question, String draftAnswer) {
+        Speculation current = speculations.getIfPresent(userId);
+        if (current != null && current.matches(context, question, draftAnswer)) {
+            return;
+        }
+
+        FutureTask<String> task = new FutureTask<>(() -> questionGenerator.generate(context, question, draftAnswer));
+        try {
+            questionPrefetchExecutor.execute(task);
+        } catch (RejectedExecutionException e) {
+            // 여유가 없으면 선제 생성을 하지 않고 확정 시 생성
+            skippedCounter.increment();
+            speculations.invalidate(userId);
+            if (current != null) {
+                discard(current);
+            }
+            return;
+        }
+        speculations.put(userId, new Speculation(context.totalTurns(), question, draftAnswer, task));
+    }
+
+    /**
+     * 확정된 답변의 다음 질문
+     * 선제 생성한 초안과 같으면 그 결과를 기다려 쓰고, 다르면 취소하고 호출 스레드에서 새로 생성한다.
+     */
+    public String resolve(Long userId, InterviewContext context, String question, String answer) {
+        Speculation speculation = speculations.asMap().remove(userId);
+        if (speculation != null) {
+            if (speculation.matches(context, question, answer)) {
+                try {
+                    String nextQuestion = speculation.task().get(resolveTimeout.toMillis(), TimeUnit.MILLISECONDS);
+                    hitCounter.increment();
+                    return nextQuestion;
+                } catch (TimeoutException | ExecutionException | CancellationException e) {
+                    log.warn("Speculative question unusable, regenerating (user: {}): {}", userId, e.toString());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    discard(speculation);
+                    throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+                }
+            }
+            discard(speculation);
+        }
+
+        missCounter.increment();
+        return questionGenerator.generate(context, question, answer);
+    }
+
+    private void discard(Speculation speculation) {
+        speculation.task().cancel(true);
+        discardedCounter.increment();
+    }
+
+    private record Speculation(long totalTurns, String question, String answer, FutureTask<String> task) {
+
+        boolean matches(InterviewContext context, String question, String answer) {
+            return totalTurns == context.totalTurns()
+                    && this.question.equals(question)
+                    && this.answer.strip().equals(answer.strip());
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.sj.voicebook.interview.service;
+
+import com.sj.voicebook.interview.dto.application.InterviewContext;
+
+/**
+ * 다음 인터뷰 질문 생성
+ * 구현체는 스레드 interrupt를 받으면 가능한 빨리 중단해야 한다 (선제 생성 취소에 사용).
+ */
+public interface QuestionGenerator {
+
+    /**
+     * @param context 이번 답변이 추가되기 전의 문맥
+     * @param question 방금 답한 질문
+     * @param answer 방금 한 답변
+     */
+    String generate(InterviewContext context, String question, String answer);
+}
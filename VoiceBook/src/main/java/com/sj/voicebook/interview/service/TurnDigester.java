@@ -0,0 +1,61 @@
+package com.sj.voicebook.interview.service;
+
+import com.sj.voicebook.interview.dto.application.ContextTurn;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * 문맥 창에서 밀려난 turn을 digest에 접어 넣는다.
+ * turn마다 답변의 첫 문장만 한 줄로 남기고, 최대 길이를 넘으면 가장 오래된 줄부터 버린다.
+ * 따라서 digest 크기는 전체 turn 수와 관계없이 max-chars 이내로 유지된다.
+ */
+@Component
+public class TurnDigester {
+
+    private static final String LINE_PREFIX = "- ";
+
+    private final int maxChars;
+    private final int maxLineChars;
+
+    public TurnDigester(
+            @Value("${interview.context.digest-max-chars:2000}") int maxChars,
+            @Value("${interview.context.digest-line-max-chars:120}") int maxLineChars
+    ) {
+        this.maxChars = maxChars;
+        this.maxLineChars = maxLineChars;
+    }
+
+    public String fold(String digest, List<ContextTurn> evicted) {
+        Deque<String> lines = new ArrayDeque<>();
+        if (digest != null && !digest.isEmpty()) {
+            lines.addAll(List.of(digest.split("\n")));
+        }
+        for (ContextTurn turn : evicted) {
+            lines.addLast(LINE_PREFIX + firstSentence(turn.answer()));
+        }
+
+        int length = lines.stream().mapToInt(line -> line.length() + 1).sum();
+        while (length > maxChars && lines.size() > 1) {
+            length -= lines.removeFirst().length() + 1;
+        }
+        return String.join("\n", lines);
+    }
+
+    private String firstSentence(String answer) {
+        String text = answer.strip().replace('\n', ' ');
+        int end = text.length();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '.' || c == '?' || c == '!') {
+                end = i + 1;
+                break;
+            }
+        }
+        end = Math.min(end, maxLineChars);
+        return text.substring(0, end);
+    }
+}
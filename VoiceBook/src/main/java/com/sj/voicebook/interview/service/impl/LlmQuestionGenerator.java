@@ -0,0 +1,59 @@
+package com.sj.voicebook.interview.service.impl;
+
+import com.sj.voicebook.global.llm.LlmGateway;
+import com.sj.voicebook.global.llm.LlmRequest;
+import com.sj.voicebook.interview.dto.application.ContextTurn;
+import com.sj.voicebook.interview.dto.application.InterviewContext;
+import com.sj.voicebook.interview.service.QuestionGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * LLM gateway로 다음 질문 생성
+ * 같은 문맥과 답변이면 프롬프트가 같으므로, 선제 생성 결과는 gateway 응답 캐시로도 재사용된다.
+ */
+@Component
+@ConditionalOnProperty(name = "interview.question-generator", havingValue = "llm")
+public class LlmQuestionGenerator implements QuestionGenerator {
+
+    private static final String SYSTEM_PROMPT = """
+            당신은 부모님의 자서전을 함께 쓰는 따뜻한 인터뷰어입니다.
+            지금까지의 대화를 바탕으로, 방금 답변과 자연스럽게 이어지는 다음 질문 하나만 존댓말로 짧게 작성하세요.
+            """;
+
+    private final LlmGateway llmGateway;
+    private final String model;
+    private final int maxTokens;
+
+    public LlmQuestionGenerator(
+            LlmGateway llmGateway,
+            @Value("${interview.question.model:question}") String model,
+            @Value("${interview.question.max-tokens:200}") int maxTokens
+    ) {
+        this.llmGateway = llmGateway;
+        this.model = model;
+        this.maxTokens = maxTokens;
+    }
+
+    @Override
+    public String generate(InterviewContext context, String question, String answer) {
+        StringBuilder prompt = new StringBuilder();
+        if (!context.digest().isEmpty()) {
+            prompt.append("[지난 이야기 요약]\n").append(context.digest()).append("\n\n");
+        }
+        if (!context.recentTurns().isEmpty()) {
+            prompt.append("[최근 대화]\n");
+            for (ContextTurn turn : context.recentTurns()) {
+                prompt.append("Q: ").append(turn.question()).append('\n')
+                        .append("A: ").append(turn.answer()).append('\n');
+            }
+            prompt.append('\n');
+        }
+        prompt.append("[방금 대화]\n")
+                .append("Q: ").append(question).append('\n')
+                .append("A: ").append(answer).append('\n');
+
+        return llmGateway.complete(new LlmRequest(model, SYSTEM_PROMPT, prompt.toString(), maxTokens)).text().strip();
+    }
+}
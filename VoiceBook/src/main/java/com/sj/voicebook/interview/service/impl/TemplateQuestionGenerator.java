@@ -0,0 +1,35 @@
+package com.sj.voicebook.interview.service.impl;
+
+import com.sj.voicebook.interview.dto.application.InterviewContext;
+import com.sj.voicebook.interview.service.QuestionGenerator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 고정 템플릿 질문 생성 - 같은 입력에는 항상 같은 질문을 돌려준다.
+ */
+@Component
+@ConditionalOnProperty(name = "interview.question-generator", havingValue = "template", matchIfMissing = true)
+public class TemplateQuestionGenerator implements QuestionGenerator {
+
+    private static final int MAX_QUOTE_LENGTH = 40;
+    private static final List<String> TEMPLATES = List.of(
+            "\"%s\" 하셨는데, 그때 이야기를 조금 더 자세히 들려주시겠어요?",
+            "\"%s\" 그 시절 함께했던 사람은 누구였나요?",
+            "\"%s\" 그때 어떤 기분이 드셨는지 기억나세요?",
+            "\"%s\" 그 일이 이후의 삶에 어떤 영향을 주었나요?"
+    );
+
+    @Override
+    public String generate(InterviewContext context, String question, String answer) {
+        String template = TEMPLATES.get((int) (context.totalTurns() % TEMPLATES.size()));
+        return template.formatted(quote(answer));
+    }
+
+    private String quote(String answer) {
+        String text = answer.strip().replace('\n', ' ');
+        return text.length() > MAX_QUOTE_LENGTH ? text.substring(0, MAX_QUOTE_LENGTH) + "…" : text;
+    }
+}
@@ -0,0 +1,108 @@
+package com.sj.voicebook.mail.domain;
+
+import com.sj.voicebook.global.mail.template.EmailTemplate;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 전송할 이메일을 보관하는 outbox
+ * 요청 스레드는 여기에 저장만 하고, 실제 전송은 EmailOutboxWorker가 처리한다.
+ */
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@EntityListeners(AuditingEntityListener.class)
+@Table(
+        name = "email_outbox",
+        indexes = @Index(name = "idx_email_outbox_status_next_attempt", columnList = "status, nextAttemptAt")
+)
+public class EmailOutbox {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 50)
+    private EmailTemplate template;
+
+    // 템플릿 slot 값 (JSON), 전송 완료/포기 후에는 인증 코드 등이 남지 않도록 비운다.
+    @Column(columnDefinition = "text")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OutboxStatus status = OutboxStatus.PENDING;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    private LocalDateTime lockedUntil;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @CreatedDate
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime sentAt;
+
+    private EmailOutbox(String recipient, EmailTemplate template, String payload, LocalDateTime nextAttemptAt) {
+        this.recipient = recipient;
+        this.template = template;
+        this.payload = payload;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public static EmailOutbox create(String recipient, EmailTemplate template, String payload, LocalDateTime now) {
+        return new EmailOutbox(recipient, template, payload, now);
+    }
+
+    /**
+     * 전송 시작 - lockedUntil 까지 다른 worker가 가져가지 않는다.
+     */
+    public void markSending(LocalDateTime lockedUntil) {
+        this.status = OutboxStatus.SENDING;
+        this.lockedUntil = lockedUntil;
+        this.attempts++;
+    }
+
+    public void markSent(LocalDateTime sentAt) {
+        this.status = OutboxStatus.SENT;
+        this.sentAt = sentAt;
+        this.lockedUntil = null;
+        this.payload = null;
+    }
+
+    /**
+     * 전송 실패 - 최대 시도 횟수를 넘으면 DEAD, 아니면 nextAttemptAt에 재시도
+     */
+    public void markFailed(String error, LocalDateTime nextAttemptAt, int maxAttempts) {
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH
+                ? error.substring(0, MAX_ERROR_LENGTH)
+                : error;
+        this.lockedUntil = null;
+        if (attempts >= maxAttempts) {
+            this.status = OutboxStatus.DEAD;
+            this.payload = null;
+            return;
+        }
+        this.status = OutboxStatus.PENDING;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+}
@@ -0,0 +1,18 @@
+package com.sj.voicebook.mail.domain;
+
+public enum OutboxStatus {
+    PENDING("전송 대기"),
+    SENDING("전송 중"),
+    SENT("전송 완료"),
+    DEAD("전송 포기");
+
+    private final String description;
+
+    OutboxStatus(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,53 @@
+package com.sj.voicebook.mail.repository;
+
+import com.sj.voicebook.mail.domain.EmailOutbox;
+import com.sj.voicebook.mail.domain.OutboxStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+
+    /**
+     * 전송할 메일 선점 - 재시도 시각이 된 PENDING 건과 lease가 끝난 SENDING 건
+     * SKIP LOCKED로 여러 노드의 worker가 같은 행을 가져가지 않는다.
+     */
+    @Query(value = "SELECT * FROM email_outbox " +
+            "WHERE (status = 'PENDING' AND next_attempt_at <= :now) " +
+            "OR (status = 'SENDING' AND locked_until < :now) " +
+            "ORDER BY next_attempt_at " +
+            "LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<EmailOutbox> findClaimable(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * 결과 기록용 행 잠금 - 기록하는 동안 lease가 끝난 행을 다른 worker가 선점하지 못한다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM EmailOutbox e WHERE e.id IN :ids")
+    List<EmailOutbox> findAllForUpdate(@Param("ids") Collection<Long> ids);
+
+    long countByStatus(OutboxStatus status);
+
+    @Modifying
+    @Query("DELETE FROM EmailOutbox e WHERE e.status = :status AND e.sentAt < :before")
+    int deleteByStatusAndSentAtBefore(@Param("status") OutboxStatus status, @Param("before") LocalDateTime before);
+
+    @Modifying
+    @Query("DELETE FROM EmailOutbox e WHERE e.status = :status AND e.createdAt < :before")
+    int deleteByStatusAndCreatedAtBefore(@Param("status") OutboxStatus status, @Param("before") LocalDateTime before);
+
+    /**
+     * 전송 포기 시 payload를 비우기 전에 DEAD가 된 행 정리용
+     */
+    @Modifying
+    @Query("UPDATE EmailOutbox e SET e.payload = NULL WHERE e.status = :status AND e.payload IS NOT NULL")
+    int clearPayloadByStatus(@Param("status") OutboxStatus status);
+}
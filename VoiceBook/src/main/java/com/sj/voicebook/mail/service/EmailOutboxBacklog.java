@@ -0,0 +1,34 @@
+package com.sj.voicebook.mail.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 전송 대기 중인 outbox 건수 (근사값)
+ * worker가 주기적으로 DB 값으로 맞추고, 그 사이에는 enqueue 시 증가시킨다.
+ */
+@Component
+public class EmailOutboxBacklog {
+
+    private final AtomicLong backlog = new AtomicLong();
+
+    public EmailOutboxBacklog(MeterRegistry meterRegistry) {
+        Gauge.builder("email.outbox.backlog", backlog, AtomicLong::get)
+                .register(meterRegistry);
+    }
+
+    public long get() {
+        return backlog.get();
+    }
+
+    void increment() {
+        backlog.incrementAndGet();
+    }
+
+    void reset(long value) {
+        backlog.set(value);
+    }
+}
@@ -0,0 +1,61 @@
+package com.sj.voicebook.mail.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sj.voicebook.global.exception.BusinessException;
+import com.sj.voicebook.global.exception.ErrorCode;
+import com.sj.voicebook.global.mail.template.EmailTemplate;
+import com.sj.voicebook.mail.domain.EmailOutbox;
+import com.sj.voicebook.mail.repository.EmailOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 이메일 전송 요청을 outbox에 저장
+ * 요청 스레드는 INSERT 한 번으로 바로 반환되고, SMTP 지연은 API 응답 시간에 영향을 주지 않는다.
+ */
+@Slf4j
+@Service
+public class EmailOutboxService {
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final EmailOutboxBacklog emailOutboxBacklog;
+    private final ObjectMapper objectMapper;
+    private final long maxBacklog;
+
+    public EmailOutboxService(
+            EmailOutboxRepository emailOutboxRepository,
+            EmailOutboxBacklog emailOutboxBacklog,
+            ObjectMapper objectMapper,
+            @Value("${mail.outbox.max-backlog:10000}") long maxBacklog
+    ) {
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.emailOutboxBacklog = emailOutboxBacklog;
+        this.objectMapper = objectMapper;
+        this.maxBacklog = maxBacklog;
+    }
+
+    /**
+     * 전송 대기 건이 너무 많으면 저장하지 않고 SERVER_BUSY로 거절
+     */
+    @Transactional
+    public void enqueue(EmailTemplate template, String recipient, Map<String, String> values) {
+        if (emailOutboxBacklog.get() >= maxBacklog) {
+            log.warn("이메일 outbox 대기 건수 초과: {}", emailOutboxBacklog.get());
+            throw new BusinessException(ErrorCode.SERVER_BUSY);
+        }
+
+        try {
+            String payload = objectMapper.writeValueAsString(values);
+            emailOutboxRepository.save(EmailOutbox.create(recipient, template, payload, LocalDateTime.now()));
+            emailOutboxBacklog.increment();
+        } catch (JsonProcessingException e) {
+            throw new BusinessException(ErrorCode.EMAIL_SEND_FAILED);
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package com.sj.voicebook.mail.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sj.voicebook.global.mail.template.EmailTemplateEngine;
+import com.sj.voicebook.global.ratelimit.LocalTokenBucket;
+import com.sj.voicebook.mail.domain.EmailOutbox;
+import com.sj.voicebook.mail.domain.OutboxStatus;
+import com.sj.voicebook.mail.repository.EmailOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * outbox에 쌓인 이메일을 전송하는 worker
+ * 1. 짧은 트랜잭션으로 전송할 행을 선점(SENDING + lease)하고
+ * 2. emailExecutor에서 pooled SMTP 연결로 batch 전송한 뒤
+ * 3. 결과에 따라 SENT / 지수 백오프 재시도 / DEAD 로 기록한다.
+ * SMTP 전송 중에는 DB 커넥션을 잡고 있지 않으며, 메일 서버로 보내는 속도는 token bucket으로 제한한다.
+ */
+@Slf4j
+@Component
+public class EmailOutboxWorker {
+
+    private static final TypeReference<Map<String, String>> PAYLOAD_TYPE = new TypeReference<>() {
+    };
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final EmailOutboxBacklog emailOutboxBacklog;
+    private final EmailTemplateEngine emailTemplateEngine;
+    private final JavaMailSender javaMailSender;
+    private final Executor emailExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final LocalTokenBucket sendRateLimiter;
+    private final int batchSize;
+    private final int maxInFlightBatches;
+    private final int maxAttempts;
+    private final Duration lease;
+    private final Duration baseBackoff;
+    private final Duration maxBackoff;
+    private final Duration retention;
+    private final Duration deadRetention;
+    private final AtomicInteger inFlightBatches = new AtomicInteger();
+
+    private final Counter sentCounter;
+    private final Counter retriedCounter;
+    private final Counter deadCounter;
+
+    public EmailOutboxWorker(
+            EmailOutboxRepository emailOutboxRepository,
+            EmailOutboxBacklog emailOutboxBacklog,
+            EmailTemplateEngine emailTemplateEngine,
+            JavaMailSender javaMailSender,
+            @Qualifier("emailExecutor") Executor emailExecutor,
+            TransactionTemplate transactionTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${mail.outbox.rate-per-second:5}") double ratePerSecond,
+            @Value("${mail.outbox.batch-size:20}") int batchSize,
+            @Value("${mail.outbox.max-in-flight-batches:3}") int maxInFlightBatches,
+            @Value("${mail.outbox.max-attempts:5}") int maxAttempts,
+            @Value("${mail.outbox.lease:2m}") Duration lease,
+            @Value("${mail.outbox.base-backoff:10s}") Duration baseBackoff,
+            @Value("${mail.outbox.max-backoff:30m}") Duration maxBackoff,
+            @Value("${mail.outbox.retention:7d}") Duration retention,
+            @Value("${mail.outbox.dead-retention:30d}") Duration deadRetention
+    ) {
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.emailOutboxBacklog = emailOutboxBacklog;
+        this.emailTemplateEngine = emailTemplateEngine;
+        this.javaMailSender = javaMailSender;
+        this.emailExecutor = emailExecutor;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        // 한 번에 batch 하나를 채울 수 있어야 하므로 순간 허용량은 batchSize 이상
+        this.sendRateLimiter = new LocalTokenBucket(Math.max(batchSize, ratePerSecond), ratePerSecond);
+        this.batchSize = batchSize;
+        this.maxInFlightBatches = maxInFlightBatches;
+        this.maxAttempts = maxAttempts;
+        this.lease = lease;
+        this.baseBackoff = baseBackoff;
+        this.maxBackoff = maxBackoff;
+        this.retention = retention;
+        this.deadRetention = deadRetention;
+        this.sentCounter = meterRegistry.counter("email.outbox.sent");
+        this.retriedCounter = meterRegistry.counter("email.outbox.retried");
+        this.deadCounter = meterRegistry.counter("email.outbox.dead");
+    }
+
+    @Scheduled(fixedDelayString = "${mail.outbox.poll-interval-ms:200}")
+    public void poll() {
+        while (inFlightBatches.get() < maxInFlightBatches) {
+            int permits = sendRateLimiter.tryConsume(batchSize);
+            if (permits == 0) {
+                return;
+            }
+
+            List<EmailOutbox> claimed = claim(permits);
+            sendRateLimiter.refund(permits - claimed.size());
+            if (claimed.isEmpty()) {
+                return;
+            }
+
+            inFlightBatches.incrementAndGet();
+            try {
+                emailExecutor.execute(() -> {
+                    try {
+                        send(claimed);
+                    } finally {
+                        inFlightBatches.decrementAndGet();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // 선점한 행은 lease가 끝나면 다시 전송 대상이 된다.
+                inFlightBatches.decrementAndGet();
+                log.warn("이메일 전송 executor 포화, {}건은 lease 만료 후 재시도", claimed.size());
+                return;
+            }
+        }
+    }
+
+    /**
+     * 전송 대기 건수 갱신 (overload 판단 및 메트릭용)
+     */
+    @Scheduled(fixedDelayString = "${mail.outbox.backlog-refresh-interval-ms:5000}")
+    public void refreshBacklog() {
+        emailOutboxBacklog.reset(emailOutboxRepository.countByStatus(OutboxStatus.PENDING));
+    }
+
+    /**
+     * 오래된 전송 완료/포기 건 정리 - 포기 건은 원인 확인을 위해 dead-retention 동안 더 보관한다 (payload는 이미 비워져 있음).
+     */
+    @Scheduled(cron = "${mail.outbox.purge-cron:0 0 4 * * *}")
+    public void purgeSent() {
+        LocalDateTime now = LocalDateTime.now();
+        Integer sent = transactionTemplate.execute(status ->
+                emailOutboxRepository.deleteByStatusAndSentAtBefore(OutboxStatus.SENT, now.minus(retention)));
+        Integer dead = transactionTemplate.execute(status -> {
+            emailOutboxRepository.clearPayloadByStatus(OutboxStatus.DEAD);
+            return emailOutboxRepository.deleteByStatusAndCreatedAtBefore(OutboxStatus.DEAD, now.minus(deadRetention));
+        });
+        log.info("이메일 outbox 정리: 전송 완료 {}건, 전송 포기 {}건 삭제", sent, dead);
+    }
+
+    private List<EmailOutbox> claim(int limit) {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<EmailOutbox> claimable = emailOutboxRepository.findClaimable(now, limit);
+            claimable.forEach(outbox -> outbox.markSending(now.plus(lease)));
+            return claimable;
+        });
+    }
+
+    private void send(List<EmailOutbox> batch) {
+        Map<MimeMessage, Long> outboxIds = new IdentityHashMap<>();
+        Map<Long, String> failures = new HashMap<>();
+
+        for (EmailOutbox outbox : batch) {
+            try {
+                Map<String, String> values = objectMapper.readValue(outbox.getPayload(), PAYLOAD_TYPE);
+                MimeMessage mimeMessage = emailTemplateEngine.createMessage(outbox.getTemplate(), outbox.getRecipient(), values);
+                outboxIds.put(mimeMessage, outbox.getId());
+            } catch (MessagingException | JsonProcessingException | IllegalArgumentException e) {
+                failures.put(outbox.getId(), e.getMessage());
+            }
+        }
+
+        if (!outboxIds.isEmpty()) {
+            try {
+                javaMailSender.send(outboxIds.keySet().toArray(MimeMessage[]::new));
+            } catch (MailSendException e) {
+                if (e.getFailedMessages().isEmpty()) {
+                    outboxIds.values().forEach(id -> failures.put(id, e.getMessage()));
+                }
+                e.getFailedMessages().forEach((message, ex) -> {
+                    Long id = outboxIds.get(message);
+                    if (id != null) {
+                        failures.put(id, ex.getMessage());
+                    }
+                });
+            } catch (MailException e) {
+                outboxIds.values().forEach(id -> failures.put(id, e.getMessage()));
+            }
+        }
+
+        // batch의 행은 선점 트랜잭션에서 분리된 상태라 attempts가 선점 시점 값이다.
+        Map<Long, Integer> claimedAttempts = new HashMap<>();
+        batch.forEach(outbox -> claimedAttempts.put(outbox.getId(), outbox.getAttempts()));
+        complete(claimedAttempts, failures);
+    }
+
+    private void complete(Map<Long, Integer> claimedAttempts, Map<Long, String> failures) {
+        transactionTemplate.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            for (EmailOutbox outbox : emailOutboxRepository.findAllForUpdate(claimedAttempts.keySet())) {
+                // lease가 끝나 다른 worker가 다시 가져간 경우는 건드리지 않음 - 선점할 때마다 attempts가 늘어난다.
+                if (outbox.getStatus() != OutboxStatus.SENDING
+                        || outbox.getAttempts() != claimedAttempts.get(outbox.getId())) {
+                    continue;
+                }
+
+                String error = failures.get(outbox.getId());
+                if (error == null) {
+                    outbox.markSent(now);
+                    sentCounter.increment();
+                    continue;
+                }
+
+                outbox.markFailed(error, now.plus(backoff(outbox.getAttempts())), maxAttempts);
+                if (outbox.getStatus() == OutboxStatus.DEAD) {
+                    deadCounter.increment();
+                    log.error("이메일 전송 최종 실패 (outbox id: {}, 시도: {}회): {}", outbox.getId(), outbox.getAttempts(), error);
+                } else {
+                    retriedCounter.increment();
+                    log.warn("이메일 전송 실패, {}에 재시도 (outbox id: {}): {}", outbox.getNextAttemptAt(), outbox.getId(), error);
+                }
+            }
+        });
+    }
+
+    /**
+     * 지수 백오프 + jitter
+     */
+    private Duration backoff(int attempts) {
+        long multiplier = 1L << Math.min(attempts - 1, 20);
+        Duration backoff = baseBackoff.multipliedBy(multiplier);
+        if (backoff.compareTo(maxBackoff) > 0) {
+            backoff = maxBackoff;
+        }
+        long jitterMillis = ThreadLocalRandom.current().nextLong(baseBackoff.toMillis() + 1);
+        return backoff.plusMillis(jitterMillis);
+    }
+}
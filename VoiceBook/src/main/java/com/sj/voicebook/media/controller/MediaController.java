@@ -0,0 +1,66 @@
+package com.sj.voicebook.media.controller;
+
+import com.sj.voicebook.global.ApiResponse;
+import com.sj.voicebook.global.exception.BusinessException;
+import com.sj.voicebook.global.exception.ErrorCode;
+import com.sj.voicebook.media.dto.api.MediaUploadResponse;
+import com.sj.voicebook.media.dto.application.StoredMedia;
+import com.sj.voicebook.media.service.MediaUploadService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+@RequestMapping("/api/media")
+public class MediaController {
+    private static final String CONTENT_SHA256_HEADER = "X-Content-SHA256";
+
+    private final MediaUploadService mediaUploadService;
+
+    /**
+     * 미디어 업로드 - 요청 본문(raw bytes)을 Content-Type과 함께 전송
+     * multipart/form-data가 아니므로 서버에 임시 파일을 만들지 않고 바로 S3로 스트리밍한다.
+     * X-Content-SHA256 헤더로 내용의 SHA-256(hex)을 보내면 내가 이미 올린 내용은 본문을 읽지 않고 바로 응답한다.
+     * (Expect: 100-continue를 함께 보내면 클라이언트도 본문 전송을 생략할 수 있다.)
+     */
+    @PostMapping("/uploads")
+    public ResponseEntity<ApiResponse<MediaUploadResponse>> upload(
+            @AuthenticationPrincipal Long userId,
+            @RequestHeader(value = CONTENT_SHA256_HEADER, required = false) String contentSha256,
+            HttpServletRequest request) {
+        try (InputStream body = request.getInputStream()) {
+            StoredMedia stored = mediaUploadService.upload(userId, request.getContentType(), contentSha256, body);
+            MediaUploadResponse response = new MediaUploadResponse(
+                    stored.key(), stored.size(), stored.contentHash(), stored.deduplicated());
+            return ResponseEntity.status(stored.deduplicated() ? HttpStatus.OK : HttpStatus.CREATED)
+                    .body(ApiResponse.success(response, "업로드가 완료되었습니다."));
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED);
+        }
+    }
+
+    /**
+     * 미디어 삭제 - 내 참조만 해제하고, 같은 내용을 참조하는 회원이 없으면 객체도 삭제된다.
+     */
+    @DeleteMapping("/{contentHash}")
+    public ResponseEntity<ApiResponse<Void>> delete(
+            @AuthenticationPrincipal Long userId,
+            @PathVariable String contentHash) {
+        mediaUploadService.release(userId, contentHash);
+        return ResponseEntity.ok(ApiResponse.success("삭제되었습니다."));
+    }
+}
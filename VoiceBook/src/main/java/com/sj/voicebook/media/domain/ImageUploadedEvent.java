@@ -0,0 +1,7 @@
+package com.sj.voicebook.media.domain;
+
+/**
+ * 원본 이미지 업로드 완료 이벤트 - 변형 이미지 생성을 시작한다.
+ */
+public record ImageUploadedEvent(String bucket, String key) {
+}
@@ -0,0 +1,64 @@
+package com.sj.voicebook.media.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 원본 이미지에서 생성된 축소 이미지
+ */
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@EntityListeners(AuditingEntityListener.class)
+@Table(
+        name = "image_variants",
+        uniqueConstraints = @UniqueConstraint(name = "unique_image_variant", columnNames = {"originalKey", "width"})
+)
+public class ImageVariant {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String originalKey;
+
+    @Column(nullable = false)
+    private String variantKey;
+
+    @Column(nullable = false)
+    private int width;
+
+    @Column(nullable = false)
+    private int height;
+
+    @Column(nullable = false, length = 50)
+    private String contentType;
+
+    @Column(nullable = false)
+    private long size;
+
+    @CreatedDate
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+
+    private ImageVariant(String originalKey, String variantKey, int width, int height, String contentType, long size) {
+        this.originalKey = originalKey;
+        this.variantKey = variantKey;
+        this.width = width;
+        this.height = height;
+        this.contentType = contentType;
+        this.size = size;
+    }
+
+    public static ImageVariant create(String originalKey, String variantKey, int width, int height,
+                                      String contentType, long size) {
+        return new ImageVariant(originalKey, variantKey, width, height, contentType, size);
+    }
+}
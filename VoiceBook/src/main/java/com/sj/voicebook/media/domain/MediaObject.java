@@ -0,0 +1,46 @@
+package com.sj.voicebook.media.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내용(SHA-256) 기준으로 한 번만 저장되는 미디어 객체
+ * 같은 내용을 여러 번 업로드하면 객체는 하나만 두고 refCount(참조 중인 회원 수)만 늘린다.
+ * 행 생성/증감은 동시성 때문에 MediaObjectRepository의 native query로만 수행한다.
+ */
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Table(name = "media_objects")
+public class MediaObject {
+
+    @Id
+    @Column(length = 64)
+    private String contentHash;
+
+    @Column(nullable = false)
+    private String objectKey;
+
+    @Column(nullable = false)
+    private long size;
+
+    @Column(nullable = false, length = 100)
+    private String contentType;
+
+    @Column(nullable = false)
+    private long refCount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private MediaObjectStatus status;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
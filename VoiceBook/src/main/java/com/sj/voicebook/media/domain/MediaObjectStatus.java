@@ -0,0 +1,14 @@
+package com.sj.voicebook.media.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum MediaObjectStatus {
+    PENDING("내용 key로 복사 중"),
+    STORED("저장 완료"),
+    DELETING("삭제 중");
+
+    private final String description;
+}
@@ -0,0 +1,36 @@
+package com.sj.voicebook.media.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원이 참조 중인 미디어 내용 - 같은 회원이 같은 내용을 여러 번 올려도 참조는 하나다.
+ * 행 생성은 MediaReferenceRepository의 native query로만 수행한다.
+ */
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Table(
+        name = "media_references",
+        uniqueConstraints = @UniqueConstraint(name = "unique_media_reference", columnNames = {"userId", "contentHash"}),
+        indexes = @Index(name = "idx_media_references_content_hash", columnList = "contentHash")
+)
+public class MediaReference {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false, length = 64)
+    private String contentHash;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
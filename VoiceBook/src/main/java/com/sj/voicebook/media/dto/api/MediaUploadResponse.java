@@ -0,0 +1,7 @@
+package com.sj.voicebook.media.dto.api;
+
+/**
+ * deduplicated가 true면 같은 내용이 이미 있어 새로 저장하지 않음
+ */
+public record MediaUploadResponse(String key, long size, String contentHash, boolean deduplicated) {
+}
@@ -0,0 +1,7 @@
+package com.sj.voicebook.media.dto.application;
+
+/**
+ * 변형 이미지 조회용 정보
+ */
+public record ImageVariantInfo(String variantKey, int width) {
+}
@@ -0,0 +1,7 @@
+package com.sj.voicebook.media.dto.application;
+
+/**
+ * 내용 기반 저장 결과
+ */
+public record StoredMedia(String key, long size, String contentHash, boolean deduplicated) {
+}
@@ -0,0 +1,7 @@
+package com.sj.voicebook.media.dto.application;
+
+/**
+ * 업로드 완료 결과 - partCount가 0이면 단일 PUT으로 업로드됨, sha256은 전체 내용의 hex digest
+ */
+public record UploadResult(String key, long size, int partCount, String sha256) {
+}
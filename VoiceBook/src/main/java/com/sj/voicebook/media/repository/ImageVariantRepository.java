@@ -0,0 +1,26 @@
+package com.sj.voicebook.media.repository;
+
+import com.sj.voicebook.media.domain.ImageVariant;
+import com.sj.voicebook.media.dto.application.ImageVariantInfo;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Set;
+
+public interface ImageVariantRepository extends JpaRepository<ImageVariant, Long> {
+
+    /**
+     * 원본 key의 변형 이미지 목록 - 너비 오름차순
+     */
+    @Query("SELECT new com.sj.voicebook.media.dto.application.ImageVariantInfo(v.variantKey, v.width) " +
+            "FROM ImageVariant v WHERE v.originalKey = :originalKey ORDER BY v.width")
+    List<ImageVariantInfo> findInfosByOriginalKey(@Param("originalKey") String originalKey);
+
+    /**
+     * 원본 key에 대해 이미 저장된 variant 너비
+     */
+    @Query("SELECT v.width FROM ImageVariant v WHERE v.originalKey = :originalKey")
+    Set<Integer> findWidthsByOriginalKey(@Param("originalKey") String originalKey);
+}
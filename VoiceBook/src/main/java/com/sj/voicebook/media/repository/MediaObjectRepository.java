@@ -0,0 +1,75 @@
+package com.sj.voicebook.media.repository;
+
+import com.sj.voicebook.media.domain.MediaObject;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface MediaObjectRepository extends JpaRepository<MediaObject, String> {
+
+    /**
+     * 새 내용을 PENDING으로 등록 - 이미 있으면 아무것도 하지 않는다.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO media_objects " +
+            "(content_hash, object_key, size, content_type, ref_count, status, created_at, updated_at) " +
+            "VALUES (:contentHash, :objectKey, :size, :contentType, 0, 'PENDING', :now, :now) " +
+            "ON CONFLICT (content_hash) DO NOTHING",
+            nativeQuery = true)
+    int insertPending(@Param("contentHash") String contentHash,
+                      @Param("objectKey") String objectKey,
+                      @Param("size") long size,
+                      @Param("contentType") String contentType,
+                      @Param("now") LocalDateTime now);
+
+    /**
+     * 상태 확인/변경용 행 잠금 - 참조 등록과 해제가 같은 행에서 순서대로 처리된다.
+     */
+    @Query(value = "SELECT * FROM media_objects WHERE content_hash = :contentHash FOR UPDATE", nativeQuery = true)
+    Optional<MediaObject> findForUpdate(@Param("contentHash") String contentHash);
+
+    @Modifying
+    @Query(value = "UPDATE media_objects SET ref_count = ref_count + 1 WHERE content_hash = :contentHash",
+            nativeQuery = true)
+    int incrementRefCount(@Param("contentHash") String contentHash);
+
+    @Modifying
+    @Query(value = "UPDATE media_objects SET ref_count = ref_count - 1 WHERE content_hash = :contentHash",
+            nativeQuery = true)
+    int decrementRefCount(@Param("contentHash") String contentHash);
+
+    @Modifying
+    @Query(value = "UPDATE media_objects SET status = :status, updated_at = :now WHERE content_hash = :contentHash",
+            nativeQuery = true)
+    int updateStatus(@Param("contentHash") String contentHash,
+                     @Param("status") String status,
+                     @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query(value = "UPDATE media_objects SET status = 'DELETING', ref_count = 0, updated_at = :now " +
+            "WHERE content_hash = :contentHash",
+            nativeQuery = true)
+    int markDeleting(@Param("contentHash") String contentHash, @Param("now") LocalDateTime now);
+
+    /**
+     * S3 객체 삭제가 끝난 행 제거
+     */
+    @Modifying
+    @Query(value = "DELETE FROM media_objects WHERE content_hash = :contentHash AND status = 'DELETING'",
+            nativeQuery = true)
+    int deleteIfDeleting(@Param("contentHash") String contentHash);
+
+    /**
+     * 업로드/삭제 도중 노드가 죽어 남은 행 - SKIP LOCKED로 여러 노드가 같은 행을 가져가지 않는다.
+     */
+    @Query(value = "SELECT * FROM media_objects " +
+            "WHERE status IN ('PENDING', 'DELETING') AND updated_at < :before " +
+            "LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<MediaObject> findStale(@Param("before") LocalDateTime before, @Param("limit") int limit);
+}
@@ -0,0 +1,30 @@
+package com.sj.voicebook.media.repository;
+
+import com.sj.voicebook.media.domain.MediaReference;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface MediaReferenceRepository extends JpaRepository<MediaReference, Long> {
+
+    /**
+     * 참조 등록 - 반환값이 0이면 이미 참조 중
+     */
+    @Modifying
+    @Query(value = "INSERT INTO media_references (user_id, content_hash, created_at) " +
+            "VALUES (:userId, :contentHash, :createdAt) " +
+            "ON CONFLICT (user_id, content_hash) DO NOTHING",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId,
+                       @Param("contentHash") String contentHash,
+                       @Param("createdAt") LocalDateTime createdAt);
+
+    @Modifying
+    @Query("DELETE FROM MediaReference r WHERE r.userId = :userId AND r.contentHash = :contentHash")
+    int deleteByUserIdAndContentHash(@Param("userId") Long userId, @Param("contentHash") String contentHash);
+
+    boolean existsByUserIdAndContentHash(Long userId, String contentHash);
+}
@@ -0,0 +1,255 @@
+package com.sj.voicebook.media.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sj.voicebook.media.domain.ImageUploadedEvent;
+import com.sj.voicebook.media.domain.ImageVariant;
+import com.sj.voicebook.media.dto.application.ImageVariantInfo;
+import com.sj.voicebook.media.repository.ImageVariantRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 원본 이미지에서 축소 이미지(variant)를 생성하고, 요청 크기에 맞는 이미지 key를 찾아준다.
+ * 원본은 한 번만 디코딩하고, 큰 크기부터 차례로 줄여 가며 각 크기를 JPEG로 다시 인코딩한다.
+ * 너비마다 따로 저장하므로 일부 너비가 실패해도 다음 생성 때 빠진 너비만 다시 만든다.
+ */
+@Slf4j
+@Service
+public class ImageVariantService {
+
+    private static final String VARIANT_PREFIX = "variants/";
+    private static final String VARIANT_CONTENT_TYPE = "image/jpeg";
+
+    private final S3Client s3Client;
+    private final ImageVariantRepository imageVariantRepository;
+    private final ThreadPoolTaskExecutor imageVariantExecutor;
+    private final List<Integer> widths;
+    private final float jpegQuality;
+    private final long maxPixels;
+
+    // 원본 key별 variant 목록 - 생성 중인 이미지도 잠시 후 다시 조회되도록 짧게 유지
+    private final Cache<String, List<ImageVariantInfo>> variantCache = Caffeine.newBuilder()
+            .maximumSize(50_000)
+            .expireAfterWrite(Duration.ofMinutes(1))
+            .build();
+
+    private final Counter generatedCounter;
+    private final Counter skippedCounter;
+    private final Counter failedCounter;
+
+    public ImageVariantService(
+            S3Client s3Client,
+            ImageVariantRepository imageVariantRepository,
+            @Qualifier("imageVariantExecutor") ThreadPoolTaskExecutor imageVariantExecutor,
+            MeterRegistry meterRegistry,
+            @Value("${media.image.variant.widths:64,128,256,512}") List<Integer> widths,
+            @Value("${media.image.variant.jpeg-quality:0.8}") float jpegQuality,
+            @Value("${media.image.variant.max-pixels:40000000}") long maxPixels
+    ) {
+        this.s3Client = s3Client;
+        this.imageVariantRepository = imageVariantRepository;
+        this.imageVariantExecutor = imageVariantExecutor;
+        this.widths = widths.stream().sorted().toList();
+        this.jpegQuality = jpegQuality;
+        this.maxPixels = maxPixels;
+        this.generatedCounter = meterRegistry.counter("media.image.variants", "result", "generated");
+        this.skippedCounter = meterRegistry.counter("media.image.variants", "result", "skipped");
+        this.failedCounter = meterRegistry.counter("media.image.variants", "result", "failed");
+    }
+
+    /**
+     * 업로드 요청 스레드를 막지 않도록 executor에 넘기고, 대기열이 가득 차면 생성을 건너뛴다.
+     * 건너뛴 이미지는 원본 URL로 제공된다.
+     * 트랜잭션 안에서 발행되면 커밋된 뒤에만 생성해, 롤백된 업로드의 variant가 남지 않게 한다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onImageUploaded(ImageUploadedEvent event) {
+        try {
+            imageVariantExecutor.execute(() -> generate(event.bucket(), event.key()));
+        } catch (TaskRejectedException e) {
+            skippedCounter.increment();
+            log.warn("Image variant generation skipped: {}", event.key());
+        }
+    }
+
+    /**
+     * requestedWidth 이상인 가장 작은 variant key - 없으면 원본 key
+     */
+    public String resolveKey(String originalKey, int requestedWidth) {
+        List<ImageVariantInfo> variants = variantCache.get(originalKey, imageVariantRepository::findInfosByOriginalKey);
+        for (ImageVariantInfo variant : variants) {
+            if (variant.width() >= requestedWidth) {
+                return variant.variantKey();
+            }
+        }
+        return originalKey;
+    }
+
+    void generate(String bucket, String key) {
+        Set<Integer> existingWidths = imageVariantRepository.findWidthsByOriginalKey(key);
+        if (existingWidths.containsAll(widths)) {
+            return;
+        }
+
+        BufferedImage original;
+        try {
+            original = decode(bucket, key);
+        } catch (IOException | SdkException e) {
+            log.error("Failed to read original image: {}", key, e);
+            skippedCounter.increment();
+            return;
+        }
+        if (original == null) {
+            skippedCounter.increment();
+            return;
+        }
+
+        int generated = 0;
+        int failed = 0;
+        BufferedImage source = original;
+        // 큰 크기부터 만들어 다음 크기의 입력으로 재사용 (매번 원본에서 줄이는 것보다 빠르다)
+        for (int i = widths.size() - 1; i >= 0; i--) {
+            int width = widths.get(i);
+            if (width >= original.getWidth() || existingWidths.contains(width)) {
+                continue;
+            }
+            int height = Math.max(1, Math.round((float) original.getHeight() * width / original.getWidth()));
+            source = resize(source, width, height);
+
+            try {
+                byte[] encoded = encodeJpeg(source);
+                String variantKey = VARIANT_PREFIX + key + "/w" + width + ".jpg";
+                s3Client.putObject(PutObjectRequest.builder()
+                                .bucket(bucket)
+                                .key(variantKey)
+                                .contentType(VARIANT_CONTENT_TYPE)
+                                // key가 내용과 1:1이므로 클라이언트/CDN이 오래 캐시해도 된다.
+                                .cacheControl("public, max-age=31536000, immutable")
+                                .build(),
+                        RequestBody.fromBytes(encoded));
+                imageVariantRepository.save(
+                        ImageVariant.create(key, variantKey, width, height, VARIANT_CONTENT_TYPE, encoded.length));
+                generated++;
+            } catch (DataIntegrityViolationException e) {
+                // 동시에 실행된 다른 생성이 같은 너비를 먼저 저장함 - 같은 key로 덮어쓴 객체이므로 그대로 둔다.
+                log.debug("{}px variant of {} already saved", width, key);
+            } catch (IOException | SdkException | DataAccessException e) {
+                failed++;
+                log.error("Failed to store {}px variant of {}", width, key, e);
+            }
+        }
+
+        variantCache.invalidate(key);
+        generatedCounter.increment(generated);
+        failedCounter.increment(failed);
+        log.info("Generated {} variants for {} ({} failed)", generated, key, failed);
+    }
+
+    /**
+     * 원본 한 번 디코딩 - 이미지가 아니거나 픽셀 수가 너무 크면 null
+     */
+    private BufferedImage decode(String bucket, String key) throws IOException {
+        GetObjectRequest request = GetObjectRequest.builder().bucket(bucket).key(key).build();
+        try (ResponseInputStream<GetObjectResponse> in = s3Client.getObject(request);
+             ImageInputStream imageInput = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInput);
+            if (!readers.hasNext()) {
+                log.warn("Unsupported image format: {}", key);
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInput, true, true);
+                // 헤더의 크기만 먼저 확인해 압축 폭탄 이미지의 디코딩을 막는다.
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > maxPixels) {
+                    log.warn("Image too large for variants: {} ({}x{})", key, reader.getWidth(0), reader.getHeight(0));
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 절반씩 줄인 뒤 마지막에 목표 크기로 맞춤 - 한 번에 크게 줄일 때 생기는 계단 현상을 줄인다.
+     * JPEG로 저장하므로 투명 영역은 흰색으로 채운다.
+     */
+    private BufferedImage resize(BufferedImage source, int width, int height) {
+        BufferedImage current = source;
+        int currentWidth = source.getWidth();
+        int currentHeight = source.getHeight();
+        do {
+            currentWidth = Math.max(width, currentWidth / 2);
+            currentHeight = Math.max(height, currentHeight / 2);
+
+            BufferedImage scaled = new BufferedImage(currentWidth, currentHeight, BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = scaled.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setColor(Color.WHITE);
+                graphics.fillRect(0, 0, currentWidth, currentHeight);
+                graphics.drawImage(current, 0, 0, currentWidth, currentHeight, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = scaled;
+        } while (currentWidth != width || currentHeight != height);
+        return current;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutput = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(imageOutput);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            // progressive JPEG - 느린 네트워크에서도 저해상도 미리보기가 먼저 보인다.
+            param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+}
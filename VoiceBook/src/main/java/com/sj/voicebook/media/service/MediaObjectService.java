@@ -0,0 +1,256 @@
+package com.sj.voicebook.media.service;
+
+import com.sj.voicebook.global.exception.BusinessException;
+import com.sj.voicebook.global.exception.ErrorCode;
+import com.sj.voicebook.media.domain.MediaObject;
+import com.sj.voicebook.media.domain.MediaObjectStatus;
+import com.sj.voicebook.media.dto.application.StoredMedia;
+import com.sj.voicebook.media.repository.MediaObjectRepository;
+import com.sj.voicebook.media.repository.MediaReferenceRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 내용 기반(content-addressed) 미디어 저장소
+ * 객체 key는 media/sha256/{hex} 이고, 회원별 참조(media_references)가 모두 해제될 때만 S3 객체를 삭제한다.
+ * media_objects.status가 S3 객체의 상태를 나타내며, S3 호출은 행 잠금 밖에서 한다.
+ * - PENDING: 내용 key로 복사 중 - 복사를 마친 업로드가 STORED로 바꾸고 참조를 등록한다.
+ * - STORED: S3 객체가 있음 - 새 업로드는 복사 없이 참조만 등록한다.
+ * - DELETING: 마지막 참조가 해제되어 커밋 후 S3 객체를 삭제 중 - 행이 지워질 때까지 새 참조를 받지 않는다.
+ */
+@Slf4j
+@Service
+public class MediaObjectService {
+
+    private static final String CONTENT_KEY_PREFIX = "media/sha256/";
+    private static final int MAX_STORE_ATTEMPTS = 5;
+    private static final long STORE_RETRY_DELAY_MILLIS = 200;
+    private static final int REAP_BATCH_SIZE = 100;
+
+    private final MediaObjectRepository mediaObjectRepository;
+    private final MediaReferenceRepository mediaReferenceRepository;
+    private final S3Client s3Client;
+    private final TransactionTemplate transactionTemplate;
+    private final String bucketName;
+    private final Duration staleAfter;
+
+    private final Counter deduplicatedCounter;
+    private final Counter storedCounter;
+
+    public MediaObjectService(
+            MediaObjectRepository mediaObjectRepository,
+            MediaReferenceRepository mediaReferenceRepository,
+            S3Client s3Client,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${media.upload.bucket:${spring.cloud.aws.s3.bucket}}") String bucketName,
+            @Value("${media.objects.stale-after:1h}") Duration staleAfter
+    ) {
+        this.mediaObjectRepository = mediaObjectRepository;
+        this.mediaReferenceRepository = mediaReferenceRepository;
+        this.s3Client = s3Client;
+        this.transactionTemplate = transactionTemplate;
+        this.bucketName = bucketName;
+        this.staleAfter = staleAfter;
+        this.deduplicatedCounter = meterRegistry.counter("media.objects", "result", "deduplicated");
+        this.storedCounter = meterRegistry.counter("media.objects", "result", "stored");
+    }
+
+    /**
+     * 회원이 이미 참조 중인 내용이면 반환 - 업로드 자체를 생략할 수 있다.
+     * 다른 회원의 내용은 확인해 주지 않는다 (내용 존재 여부가 새지 않도록).
+     */
+    public Optional<MediaObject> findReferenced(Long userId, String contentHash) {
+        if (!mediaReferenceRepository.existsByUserIdAndContentHash(userId, contentHash)) {
+            return Optional.empty();
+        }
+        return mediaObjectRepository.findById(contentHash)
+                .filter(object -> object.getStatus() == MediaObjectStatus.STORED);
+    }
+
+    /**
+     * 임시 key로 업로드된 객체를 내용 key로 옮기고 회원 참조 등록
+     * 같은 내용이 이미 있으면 임시 객체만 지운다. 복사는 S3 안에서 이루어져 다시 전송하지 않는다.
+     * 같은 내용이 삭제 중이면 삭제가 끝난 뒤 다시 복사하고, 끝내 끝나지 않으면 SERVER_BUSY.
+     */
+    public StoredMedia store(Long userId, String contentHash, String temporaryKey, long size, String contentType) {
+        String contentKey = CONTENT_KEY_PREFIX + contentHash;
+        try {
+            for (int attempt = 1; attempt <= MAX_STORE_ATTEMPTS; attempt++) {
+                MediaObjectStatus status = transactionTemplate.execute(
+                        tx -> claim(userId, contentHash, contentKey, size, contentType));
+                if (status == MediaObjectStatus.STORED) {
+                    deduplicatedCounter.increment();
+                    return new StoredMedia(contentKey, size, contentHash, true);
+                }
+                if (status == MediaObjectStatus.PENDING) {
+                    copyObject(temporaryKey, contentKey);
+                    if (Boolean.TRUE.equals(transactionTemplate.execute(tx -> completeCopy(userId, contentHash)))) {
+                        storedCounter.increment();
+                        return new StoredMedia(contentKey, size, contentHash, false);
+                    }
+                }
+                sleepBeforeRetry();
+            }
+            throw new BusinessException(ErrorCode.SERVER_BUSY);
+        } finally {
+            deleteObject(temporaryKey);
+        }
+    }
+
+    /**
+     * 회원 참조 하나 해제 - 마지막 참조였다면 커밋 후 S3 객체와 행을 삭제
+     * 참조하지 않은 내용이면 MEDIA_NOT_FOUND
+     */
+    public void release(Long userId, String contentHash) {
+        boolean lastReference = Boolean.TRUE.equals(transactionTemplate.execute(tx -> {
+            // claim과 같은 순서(객체 행 -> 참조 행)로 잠근다.
+            MediaObject object = mediaObjectRepository.findForUpdate(contentHash)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.MEDIA_NOT_FOUND));
+            if (mediaReferenceRepository.deleteByUserIdAndContentHash(userId, contentHash) == 0) {
+                throw new BusinessException(ErrorCode.MEDIA_NOT_FOUND);
+            }
+            if (object.getRefCount() > 1) {
+                mediaObjectRepository.decrementRefCount(contentHash);
+                return false;
+            }
+            mediaObjectRepository.markDeleting(contentHash, LocalDateTime.now());
+            return true;
+        }));
+        if (lastReference) {
+            deleteContent(contentHash);
+        }
+    }
+
+    /**
+     * 내용 key로 옮기지 않을 임시 객체 삭제
+     */
+    public void discard(String temporaryKey) {
+        deleteObject(temporaryKey);
+    }
+
+    /**
+     * 복사/삭제 도중 노드가 죽어 stale-after 넘게 PENDING/DELETING으로 남은 내용 정리
+     */
+    @Scheduled(fixedDelayString = "${media.objects.reap-interval-ms:600000}")
+    public void reapStale() {
+        LocalDateTime now = LocalDateTime.now();
+        List<String> stale = transactionTemplate.execute(tx -> mediaObjectRepository
+                .findStale(now.minus(staleAfter), REAP_BATCH_SIZE).stream()
+                .map(object -> {
+                    mediaObjectRepository.markDeleting(object.getContentHash(), now);
+                    return object.getContentHash();
+                })
+                .toList());
+        if (stale == null || stale.isEmpty()) {
+            return;
+        }
+        stale.forEach(this::deleteContent);
+        log.info("Reaped {} stale media objects", stale.size());
+    }
+
+    /**
+     * 행이 없으면 PENDING으로 만들고 잠근 뒤 상태 반환 - STORED면 회원 참조를 바로 등록한다.
+     * 그 사이 삭제가 끝나 행이 사라졌으면 null
+     */
+    private MediaObjectStatus claim(Long userId, String contentHash, String contentKey, long size, String contentType) {
+        LocalDateTime now = LocalDateTime.now();
+        mediaObjectRepository.insertPending(contentHash, contentKey, size, contentType, now);
+        Optional<MediaObject> object = mediaObjectRepository.findForUpdate(contentHash);
+        if (object.isEmpty()) {
+            return null;
+        }
+
+        MediaObjectStatus status = object.get().getStatus();
+        if (status == MediaObjectStatus.STORED) {
+            addReference(userId, contentHash, now);
+        } else if (status == MediaObjectStatus.PENDING) {
+            // 복사 중인 행을 reapStale이 정리하지 않도록 갱신
+            mediaObjectRepository.updateStatus(contentHash, MediaObjectStatus.PENDING.name(), now);
+        }
+        return status;
+    }
+
+    /**
+     * 복사를 마친 내용을 STORED로 바꾸고 회원 참조 등록
+     * 복사하는 동안 다른 업로드의 마지막 참조가 해제되어 삭제 중이면 false - 복사한 객체가 지워질 수 있으므로 다시 시도한다.
+     */
+    private boolean completeCopy(Long userId, String contentHash) {
+        Optional<MediaObject> object = mediaObjectRepository.findForUpdate(contentHash);
+        if (object.isEmpty() || object.get().getStatus() == MediaObjectStatus.DELETING) {
+            return false;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        if (object.get().getStatus() == MediaObjectStatus.PENDING) {
+            mediaObjectRepository.updateStatus(contentHash, MediaObjectStatus.STORED.name(), now);
+        }
+        addReference(userId, contentHash, now);
+        return true;
+    }
+
+    private void addReference(Long userId, String contentHash, LocalDateTime now) {
+        if (mediaReferenceRepository.insertIfAbsent(userId, contentHash, now) > 0) {
+            mediaObjectRepository.incrementRefCount(contentHash);
+        }
+    }
+
+    /**
+     * DELETING 행의 S3 객체를 지운 뒤 행 삭제 - 실패하면 행을 남겨 reapStale이 다시 시도한다.
+     */
+    private void deleteContent(String contentHash) {
+        String contentKey = CONTENT_KEY_PREFIX + contentHash;
+        try {
+            s3Client.deleteObject(DeleteObjectRequest.builder().bucket(bucketName).key(contentKey).build());
+        } catch (SdkException e) {
+            log.error("Failed to delete media object: {}", contentKey, e);
+            return;
+        }
+        transactionTemplate.executeWithoutResult(tx -> mediaObjectRepository.deleteIfDeleting(contentHash));
+    }
+
+    private void copyObject(String sourceKey, String destinationKey) {
+        try {
+            s3Client.copyObject(CopyObjectRequest.builder()
+                    .sourceBucket(bucketName)
+                    .sourceKey(sourceKey)
+                    .destinationBucket(bucketName)
+                    .destinationKey(destinationKey)
+                    .build());
+        } catch (SdkException e) {
+            log.error("Failed to copy media object {} to {}", sourceKey, destinationKey, e);
+            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED);
+        }
+    }
+
+    private void deleteObject(String key) {
+        try {
+            s3Client.deleteObject(DeleteObjectRequest.builder().bucket(bucketName).key(key).build());
+        } catch (RuntimeException e) {
+            log.warn("Failed to delete temporary media object: {}", key, e);
+        }
+    }
+
+    private void sleepBeforeRetry() {
+        try {
+            Thread.sleep(STORE_RETRY_DELAY_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED);
+        }
+    }
+}
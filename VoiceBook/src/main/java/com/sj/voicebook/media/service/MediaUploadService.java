@@ -0,0 +1,96 @@
+package com.sj.voicebook.media.service;
+
+import com.sj.voicebook.global.exception.BusinessException;
+import com.sj.voicebook.global.exception.ErrorCode;
+import com.sj.voicebook.media.domain.MediaObject;
+import com.sj.voicebook.media.dto.application.StoredMedia;
+import com.sj.voicebook.media.dto.application.UploadResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * 음성 녹음, 사진 앨범 등 대용량 미디어 업로드
+ * 요청 본문을 그대로 스트리밍하므로 spring.servlet.multipart 크기 제한을 받지 않는다.
+ * 같은 내용은 SHA-256 기준으로 한 번만 저장한다.
+ */
+@Slf4j
+@Service
+public class MediaUploadService {
+
+    private static final List<String> ALLOWED_TYPE_PREFIXES = List.of("audio/", "image/", "video/");
+    private static final String TEMPORARY_KEY_PREFIX = "media/tmp/";
+    private static final Pattern SHA256_HEX = Pattern.compile("[0-9a-f]{64}");
+
+    private final MultipartUploader multipartUploader;
+    private final MediaObjectService mediaObjectService;
+    private final String bucketName;
+    private final long maxSize;
+
+    public MediaUploadService(
+            MultipartUploader multipartUploader,
+            MediaObjectService mediaObjectService,
+            @Value("${media.upload.bucket:${spring.cloud.aws.s3.bucket}}") String bucketName,
+            @Value("${media.upload.max-size:2GB}") DataSize maxSize
+    ) {
+        this.multipartUploader = multipartUploader;
+        this.mediaObjectService = mediaObjectService;
+        this.bucketName = bucketName;
+        this.maxSize = maxSize.toBytes();
+    }
+
+    /**
+     * 업로드 후 내용 기반 key로 저장하고 회원 참조 등록
+     * @param declaredSha256 클라이언트가 미리 계산한 SHA-256(hex)
+     *                       회원이 이미 참조 중인 내용이면 본문을 읽지 않고 반환하고, 그 밖에는 업로드된 내용과 비교한다.
+     */
+    public StoredMedia upload(Long userId, String contentType, String declaredSha256, InputStream body) {
+        if (contentType == null || ALLOWED_TYPE_PREFIXES.stream().noneMatch(contentType::startsWith)) {
+            throw new BusinessException(ErrorCode.INVALID_FILE_TYPE);
+        }
+
+        String declared = declaredSha256 == null ? null : declaredSha256.toLowerCase(Locale.ROOT);
+        if (declared != null) {
+            if (!SHA256_HEX.matcher(declared).matches()) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+            }
+            // 다른 회원의 내용은 본문을 받아 검증하기 전에는 참조할 수 없다.
+            Optional<MediaObject> owned = mediaObjectService.findReferenced(userId, declared);
+            if (owned.isPresent()) {
+                log.info("Media already referenced before upload: {}", owned.get().getObjectKey());
+                return new StoredMedia(owned.get().getObjectKey(), owned.get().getSize(), declared, true);
+            }
+        }
+
+        // 내용을 다 읽기 전에는 digest를 모르므로 임시 key로 올린 뒤 내용 key로 옮긴다.
+        String temporaryKey = TEMPORARY_KEY_PREFIX + userId + "/" + UUID.randomUUID();
+        UploadResult result = multipartUploader.upload(bucketName, temporaryKey, contentType, body, maxSize);
+        log.info("Media uploaded: {} ({} bytes, {} parts)", temporaryKey, result.size(), result.partCount());
+
+        if (declared != null && !declared.equals(result.sha256())) {
+            mediaObjectService.discard(temporaryKey);
+            throw new BusinessException(ErrorCode.INVALID_FILE);
+        }
+
+        return mediaObjectService.store(userId, result.sha256(), temporaryKey, result.size(), contentType);
+    }
+
+    /**
+     * 회원의 미디어 참조 해제 - 같은 내용을 참조하는 회원이 없을 때만 실제로 삭제된다.
+     */
+    public void release(Long userId, String contentHash) {
+        String hash = contentHash.toLowerCase(Locale.ROOT);
+        if (!SHA256_HEX.matcher(hash).matches()) {
+            throw new BusinessException(ErrorCode.MEDIA_NOT_FOUND);
+        }
+        mediaObjectService.release(userId, hash);
+    }
+}
@@ -0,0 +1,342 @@
+package com.sj.voicebook.media.service;
+
+import com.sj.voicebook.global.exception.BusinessException;
+import com.sj.voicebook.global.exception.ErrorCode;
+import com.sj.voicebook.media.dto.application.UploadResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 입력 스트림을 part 단위로 잘라 S3 multipart upload로 병렬 전송
+ * - 메모리: 고정 크기 버퍼 풀(max-in-flight-parts × part-size)만 사용하고 전체 파일을 메모리/디스크에 쌓지 않는다.
+ * - 공정성: 클라이언트가 다음 part의 데이터를 보내기 시작한 뒤에만 버퍼를 잡고,
+ *   업로드 하나가 동시에 쥘 수 있는 버퍼는 max-in-flight-parts-per-upload 개로 제한한다.
+ * - 무결성: part마다 SHA-256을 계산해 함께 보내고, S3가 검증한 checksum과 다시 비교한다.
+ * - 실패: 실패한 part만 재시도하고, 재시도 후에도 실패하면 업로드를 abort 한다.
+ */
+@Slf4j
+@Component
+public class MultipartUploader {
+
+    // S3 multipart 최소 part 크기 (마지막 part 제외)
+    private static final long MIN_PART_SIZE = DataSize.ofMebibytes(5).toBytes();
+
+    // 스트림 끝 - 버퍼 풀에 속하지 않는다.
+    private static final Part END = new Part(new byte[0], 0);
+
+    private final S3Client s3Client;
+    private final Executor mediaUploadExecutor;
+    private final int partSize;
+    private final int maxPartsPerUpload;
+    private final int maxAttempts;
+    private final long bufferWaitMillis;
+
+    // 재사용 버퍼 풀 - 비어 있으면 전송 중인 part가 끝날 때까지 다음 part를 읽지 않는다.
+    private final BlockingQueue<byte[]> bufferPool;
+
+    private final Counter partRetries;
+
+    public MultipartUploader(
+            S3Client s3Client,
+            @Qualifier("mediaUploadExecutor") Executor mediaUploadExecutor,
+            MeterRegistry meterRegistry,
+            @Value("${media.upload.part-size:8MB}") DataSize partSize,
+            @Value("${media.upload.max-in-flight-parts:8}") int maxInFlightParts,
+            @Value("${media.upload.max-in-flight-parts-per-upload:2}") int maxPartsPerUpload,
+            @Value("${media.upload.part-max-attempts:3}") int maxAttempts,
+            @Value("${media.upload.buffer-wait-ms:30000}") long bufferWaitMillis
+    ) {
+        if (partSize.toBytes() < MIN_PART_SIZE) {
+            throw new IllegalArgumentException("media.upload.part-size must be at least 5MB");
+        }
+        this.s3Client = s3Client;
+        this.mediaUploadExecutor = mediaUploadExecutor;
+        this.partSize = Math.toIntExact(partSize.toBytes());
+        this.maxPartsPerUpload = Math.min(maxPartsPerUpload, maxInFlightParts);
+        this.maxAttempts = maxAttempts;
+        this.bufferWaitMillis = bufferWaitMillis;
+        this.bufferPool = new ArrayBlockingQueue<>(maxInFlightParts);
+        for (int i = 0; i < maxInFlightParts; i++) {
+            bufferPool.add(new byte[this.partSize]);
+        }
+        this.partRetries = meterRegistry.counter("media.upload.part.retries");
+    }
+
+    /**
+     * 스트림 전체를 업로드 - 첫 part만으로 끝나는 작은 파일은 단일 PUT으로 전송
+     * 업로드하면서 전체 내용의 SHA-256을 함께 계산해 반환한다.
+     * @param maxSize 허용 최대 크기, 초과 시 업로드를 중단하고 FILE_SIZE_EXCEEDED
+     */
+    public UploadResult upload(String bucket, String key, String contentType, InputStream in, long maxSize) {
+        // 전체 내용의 SHA-256 - 읽는 스레드에서 part 순서대로 누적 (content-addressed key 계산용)
+        MessageDigest contentDigest = newSha256();
+        // 이 업로드가 쥐고 있는 버퍼 수 제한
+        Semaphore uploadSlots = new Semaphore(maxPartsPerUpload);
+
+        Part first = readPart(in, uploadSlots);
+        contentDigest.update(first.buffer(), 0, first.length());
+
+        if (first.length() < partSize) {
+            try {
+                putSingle(bucket, key, contentType, first.buffer(), first.length(), maxSize);
+                return new UploadResult(key, first.length(), 0, HexFormat.of().formatHex(contentDigest.digest()));
+            } finally {
+                releaseBuffer(first, uploadSlots);
+            }
+        }
+
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType)
+                .checksumAlgorithm(ChecksumAlgorithm.SHA256)
+                .build()).uploadId();
+
+        List<CompletableFuture<CompletedPart>> parts = new ArrayList<>();
+        try {
+            long size = 0;
+            Part part = first;
+            int partNumber = 1;
+            while (part != END) {
+                size += part.length();
+                if (size > maxSize) {
+                    releaseBuffer(part, uploadSlots);
+                    throw new BusinessException(ErrorCode.FILE_SIZE_EXCEEDED);
+                }
+                parts.add(submitPart(bucket, key, uploadId, partNumber++, part, uploadSlots));
+                // 앞선 part가 이미 실패했다면 남은 스트림을 더 읽지 않는다.
+                if (parts.stream().anyMatch(CompletableFuture::isCompletedExceptionally)) {
+                    break;
+                }
+
+                part = readPart(in, uploadSlots);
+                contentDigest.update(part.buffer(), 0, part.length());
+            }
+
+            List<CompletedPart> completedParts = CompletableFuture.allOf(parts.toArray(CompletableFuture[]::new))
+                    .thenApply(ignored -> parts.stream()
+                            .map(CompletableFuture::join)
+                            .sorted(Comparator.comparing(CompletedPart::partNumber))
+                            .toList())
+                    .join();
+
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build())
+                    .build());
+            return new UploadResult(key, size, completedParts.size(), HexFormat.of().formatHex(contentDigest.digest()));
+        } catch (RuntimeException e) {
+            abort(bucket, key, uploadId, parts);
+            if (e instanceof BusinessException businessException) {
+                throw businessException;
+            }
+            log.error("Multipart upload failed: {}", key, e);
+            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED);
+        }
+    }
+
+    private CompletableFuture<CompletedPart> submitPart(
+            String bucket, String key, String uploadId, int partNumber, Part part, Semaphore uploadSlots) {
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return uploadPart(bucket, key, uploadId, partNumber, part.buffer(), part.length());
+                } finally {
+                    releaseBuffer(part, uploadSlots);
+                }
+            }, mediaUploadExecutor);
+        } catch (RejectedExecutionException e) {
+            releaseBuffer(part, uploadSlots);
+            throw new BusinessException(ErrorCode.SERVER_BUSY);
+        }
+    }
+
+    private CompletedPart uploadPart(String bucket, String key, String uploadId, int partNumber, byte[] buffer, int length) {
+        String checksum = sha256(buffer, length);
+        for (int attempt = 1; ; attempt++) {
+            try {
+                UploadPartResponse response = s3Client.uploadPart(UploadPartRequest.builder()
+                                .bucket(bucket)
+                                .key(key)
+                                .uploadId(uploadId)
+                                .partNumber(partNumber)
+                                .contentLength((long) length)
+                                .checksumSHA256(checksum)
+                                .build(),
+                        RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, length), length));
+
+                if (response.checksumSHA256() != null && !checksum.equals(response.checksumSHA256())) {
+                    throw new IllegalStateException("Checksum mismatch for part " + partNumber);
+                }
+                return CompletedPart.builder()
+                        .partNumber(partNumber)
+                        .eTag(response.eTag())
+                        .checksumSHA256(checksum)
+                        .build();
+            } catch (SdkException | IllegalStateException e) {
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+                partRetries.increment();
+                log.warn("Retrying part {} of {} (attempt {}): {}", partNumber, key, attempt, e.getMessage());
+                sleepBackoff(attempt);
+            }
+        }
+    }
+
+    private void putSingle(String bucket, String key, String contentType, byte[] buffer, int length, long maxSize) {
+        if (length > maxSize) {
+            throw new BusinessException(ErrorCode.FILE_SIZE_EXCEEDED);
+        }
+        try {
+            s3Client.putObject(PutObjectRequest.builder()
+                            .bucket(bucket)
+                            .key(key)
+                            .contentType(contentType)
+                            .contentLength((long) length)
+                            .checksumSHA256(sha256(buffer, length))
+                            .build(),
+                    RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, length), length));
+        } catch (SdkException e) {
+            log.error("Upload failed: {}", key, e);
+            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED);
+        }
+    }
+
+    private void abort(String bucket, String key, String uploadId, List<CompletableFuture<CompletedPart>> parts) {
+        // 전송 중인 part가 끝난 뒤 abort 해야 S3에 part가 남지 않는다.
+        try {
+            CompletableFuture.allOf(parts.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException ignored) {
+        }
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .build());
+        } catch (SdkException e) {
+            log.error("Failed to abort multipart upload {} of {}", uploadId, key, e);
+        }
+    }
+
+    /**
+     * 다음 part를 읽는다 - 첫 바이트가 도착한 뒤에 버퍼를 잡으므로 데이터를 보내지 않는 클라이언트는 버퍼를 쥐지 않는다.
+     */
+    private Part readPart(InputStream in, Semaphore uploadSlots) {
+        int firstByte;
+        try {
+            firstByte = in.read();
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED);
+        }
+        if (firstByte < 0) {
+            return END;
+        }
+
+        byte[] buffer = acquireBuffer(uploadSlots);
+        buffer[0] = (byte) firstByte;
+        try {
+            return new Part(buffer, 1 + in.readNBytes(buffer, 1, partSize - 1));
+        } catch (IOException e) {
+            releaseBuffer(new Part(buffer, 0), uploadSlots);
+            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED);
+        }
+    }
+
+    private byte[] acquireBuffer(Semaphore uploadSlots) {
+        boolean slotAcquired = false;
+        try {
+            // 업로드별 슬롯을 먼저 얻어 한 업로드가 풀을 독점하지 못하게 한다.
+            slotAcquired = uploadSlots.tryAcquire(bufferWaitMillis, TimeUnit.MILLISECONDS);
+            byte[] buffer = slotAcquired ? bufferPool.poll(bufferWaitMillis, TimeUnit.MILLISECONDS) : null;
+            if (buffer == null) {
+                throw new BusinessException(ErrorCode.SERVER_BUSY);
+            }
+            slotAcquired = false;
+            return buffer;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED);
+        } finally {
+            if (slotAcquired) {
+                uploadSlots.release();
+            }
+        }
+    }
+
+    private void releaseBuffer(Part part, Semaphore uploadSlots) {
+        if (part == END) {
+            return;
+        }
+        bufferPool.add(part.buffer());
+        uploadSlots.release();
+    }
+
+    private void sleepBackoff(int attempt) {
+        try {
+            Thread.sleep(200L * (1L << (attempt - 1)));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while retrying part upload", e);
+        }
+    }
+
+    private String sha256(byte[] buffer, int length) {
+        MessageDigest digest = newSha256();
+        digest.update(buffer, 0, length);
+        return Base64.getEncoder().encodeToString(digest.digest());
+    }
+
+    private MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm is not available", e);
+        }
+    }
+
+    /**
+     * 풀에서 얻은 버퍼와 그 안에 읽은 길이
+     */
+    private record Part(byte[] buffer, int length) {
+    }
+}
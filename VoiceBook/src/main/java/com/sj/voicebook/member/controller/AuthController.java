@@ -1,15 +1,20 @@
 package com.sj.voicebook.member.controller;
 
 import com.sj.voicebook.global.ApiResponse;
+import com.sj.voicebook.global.ratelimit.RateLimitPolicy;
+import com.sj.voicebook.global.ratelimit.RateLimiter;
 import com.sj.voicebook.member.dto.api.CreateUserRequest;
 import com.sj.voicebook.member.dto.api.LoginRequest;
 import com.sj.voicebook.member.dto.api.LoginResponse;
+import com.sj.voicebook.member.dto.api.ProfileImageUploadRequest;
+import com.sj.voicebook.member.dto.api.ProfileImageUploadResponse;
 import com.sj.voicebook.member.dto.api.RefreshTokenRequest;
 import com.sj.voicebook.member.dto.api.RefreshTokenResponse;
 import com.sj.voicebook.member.dto.application.CreateUserCommand;
 import com.sj.voicebook.member.service.impl.AuthService;
-import com.sj.voicebook.member.service.ImageService;
+import com.sj.voicebook.member.service.impl.ProfileImageUploadService;
 import com.sj.voicebook.member.service.SignUpService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,7 +22,6 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.multipart.MultipartFile;
 
 @RestController
 @RequiredArgsConstructor
@@ -25,21 +29,20 @@ import org.springframework.web.multipart.MultipartFile;
 @RequestMapping("/api/members")
 public class AuthController {
     private final SignUpService signUpService;
-    private final ImageService imageService;
+    private final ProfileImageUploadService profileImageUploadService;
     private final AuthService authService;
+    private final RateLimiter rateLimiter;
 
+    /**
+     * 회원가입 - 프로필 이미지는 /profile-image/upload-url 로 발급받은 URL로 먼저 업로드하고 key만 전달
+     */
     @PostMapping("/signup")
-    public ResponseEntity<ApiResponse<String>> signUp(
-            @Valid @ModelAttribute CreateUserRequest request,
-            @RequestParam(value = "profileImage", required = false) MultipartFile profileImage) {
-
-        String key = imageService.upload(profileImage);
-
+    public ResponseEntity<ApiResponse<String>> signUp(@Valid @ModelAttribute CreateUserRequest request) {
         CreateUserCommand command = CreateUserCommand.builder()
                 .email(request.email())
                 .nickname(request.nickname())
                 .password(request.password())
-                .profileImage(key)
+                .profileImage(request.profileImageKey())
                 .build();
 
         String result = signUpService.signUp(command);
@@ -48,11 +51,27 @@ public class AuthController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * 프로필 이미지 업로드 URL 발급 - 클라이언트가 S3에 직접 업로드
+     */
+    @PostMapping("/profile-image/upload-url")
+    public ResponseEntity<ApiResponse<ProfileImageUploadResponse>> issueProfileImageUploadUrl(
+            @Valid @RequestBody ProfileImageUploadRequest request,
+            HttpServletRequest httpRequest) {
+        rateLimiter.acquire(RateLimitPolicy.PROFILE_IMAGE_UPLOAD, httpRequest.getRemoteAddr(), null);
+        ProfileImageUploadResponse response =
+                profileImageUploadService.issueUploadUrl(request.contentType(), request.contentLength());
+        return ResponseEntity.ok(ApiResponse.success(response, "업로드 URL이 발급되었습니다."));
+    }
+
     /**
      * 로그인
      */
     @PostMapping("/login")
-    public ResponseEntity<ApiResponse<LoginResponse>> login(@Valid @RequestBody LoginRequest request) {
+    public ResponseEntity<ApiResponse<LoginResponse>> login(
+            @Valid @RequestBody LoginRequest request,
+            HttpServletRequest httpRequest) {
+        rateLimiter.acquire(RateLimitPolicy.LOGIN, httpRequest.getRemoteAddr(), request.email());
         LoginResponse loginResponse = authService.login(request.email(), request.password());
         return ResponseEntity.ok(ApiResponse.success(loginResponse, "로그인에 성공했습니다."));
     }
@@ -61,7 +80,11 @@ public class AuthController {
      * 토큰 재발급
      */
     @PostMapping("/refresh")
-    public ResponseEntity<ApiResponse<RefreshTokenResponse>> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+    public ResponseEntity<ApiResponse<RefreshTokenResponse>> refresh(
+            @Valid @RequestBody RefreshTokenRequest request,
+            HttpServletRequest httpRequest) {
+        // 토큰 파싱 전이므로 IP 기준으로만 제한
+        rateLimiter.acquire(RateLimitPolicy.REFRESH, httpRequest.getRemoteAddr(), null);
         RefreshTokenResponse response = authService.refresh(request.refreshToken());
         return ResponseEntity.ok(ApiResponse.success(response, "토큰이 재발급되었습니다."));
     }
@@ -1,9 +1,12 @@
 package com.sj.voicebook.member.controller;
 
 import com.sj.voicebook.global.ApiResponse;
+import com.sj.voicebook.global.ratelimit.RateLimitPolicy;
+import com.sj.voicebook.global.ratelimit.RateLimiter;
 import com.sj.voicebook.member.dto.api.EmailRequestDto;
 import com.sj.voicebook.member.dto.api.EmailVerifyDto;
 import com.sj.voicebook.member.service.EmailService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,6 +22,7 @@ import org.springframework.web.bind.annotation.RestController;
 @Slf4j
 public class EmailController {
     private final EmailService emailService;
+    private final RateLimiter rateLimiter;
 
     /**
      * 인증코드 전송 요청
@@ -26,7 +30,10 @@ public class EmailController {
      * @return 성공 메시지
      */
     @PostMapping("/send")
-    public ResponseEntity<ApiResponse<Void>> sendEmail(@Valid @RequestBody EmailRequestDto request) {
+    public ResponseEntity<ApiResponse<Void>> sendEmail(
+            @Valid @RequestBody EmailRequestDto request,
+            HttpServletRequest httpRequest) {
+        rateLimiter.acquire(RateLimitPolicy.EMAIL_SEND, httpRequest.getRemoteAddr(), request.email());
         emailService.sendEmail(request.email());
         return ResponseEntity.ok(ApiResponse.success("인증 코드가 발송되었습니다."));
     }
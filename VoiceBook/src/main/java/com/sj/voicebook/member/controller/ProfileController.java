@@ -1,28 +1,122 @@
 package com.sj.voicebook.member.controller;
 
 import com.sj.voicebook.global.ApiResponse;
+import com.sj.voicebook.global.ratelimit.RateLimitPolicy;
+import com.sj.voicebook.global.ratelimit.RateLimiter;
+import com.sj.voicebook.member.dto.api.ImageUrlBatchRequest;
+import com.sj.voicebook.member.dto.api.ImageUrlBatchResponse;
+import com.sj.voicebook.member.dto.api.MemberProfileResponse;
+import com.sj.voicebook.member.dto.application.PresignedUrl;
 import com.sj.voicebook.member.service.ImageService;
+import com.sj.voicebook.member.service.impl.MemberProfileService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
 
 @RestController
 @RequiredArgsConstructor
 @Slf4j
 @RequestMapping("/api/members")
 public class ProfileController {
+    // 클라이언트가 만료 직전의 URL을 쓰지 않도록 max-age에서 빼는 여유 시간
+    private static final Duration CLIENT_EXPIRY_MARGIN = Duration.ofMinutes(1);
+
     private final ImageService imageService;
+    private final MemberProfileService memberProfileService;
+    private final RateLimiter rateLimiter;
+
+    /**
+     * 내 프로필 조회
+     */
+    @GetMapping("/me")
+    public ResponseEntity<ApiResponse<MemberProfileResponse>> getMyProfile(@AuthenticationPrincipal Long userId) {
+        MemberProfileResponse profile = memberProfileService.getMyProfile(userId);
+        return ResponseEntity.ok(ApiResponse.success(profile, "프로필 조회에 성공했습니다."));
+    }
 
+    /**
+     * 프로필 이미지 URL 조회 - width(px)를 주면 그 이상인 가장 작은 축소 이미지를 반환
+     * 회원 프로필 이미지로 사용 중인 key만 조회할 수 있다.
+     * 같은 URL을 다시 받은 클라이언트는 If-None-Match로 304를 받는다.
+     */
     @GetMapping("/profile-image")
-    public ResponseEntity<ApiResponse<String>> viewImage(@RequestParam("key") String key) {
-        String url = imageService.getImageUrl(key);
-        ApiResponse<String> response = ApiResponse.success(url, "프로필 이미지 조회에 성공했습니다.");
+    public ResponseEntity<ApiResponse<String>> viewImage(
+            @AuthenticationPrincipal Long userId,
+            @RequestParam("key") String key,
+            @RequestParam(value = "width", required = false) Integer width,
+            WebRequest webRequest) {
+        rateLimiter.acquire(RateLimitPolicy.PROFILE_IMAGE_VIEW, null, String.valueOf(userId));
+        memberProfileService.checkViewableProfileImage(key);
+        PresignedUrl presignedUrl = width == null
+                ? imageService.getPresignedUrl(key)
+                : imageService.getPresignedUrl(key, width);
+        String etag = etag(presignedUrl.url());
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        ApiResponse<String> response = ApiResponse.success(presignedUrl.url(), "프로필 이미지 조회에 성공했습니다.");
         log.debug(response.toString());
-        return ResponseEntity.status(HttpStatus.OK).body(response);
+        return ResponseEntity.status(HttpStatus.OK)
+                .cacheControl(cacheControl(presignedUrl.expiresAt()))
+                .eTag(etag)
+                .body(response);
+    }
+
+    /**
+     * 프로필 이미지 URL 일괄 조회 - 피드 화면처럼 여러 이미지를 한 번에 표시할 때 사용
+     * 회원 프로필 이미지로 사용 중이 아닌 key는 결과에서 빠진다.
+     */
+    @PostMapping("/profile-image/batch")
+    public ResponseEntity<ApiResponse<ImageUrlBatchResponse>> viewImages(
+            @AuthenticationPrincipal Long userId,
+            @Valid @RequestBody ImageUrlBatchRequest request) {
+        rateLimiter.acquire(RateLimitPolicy.PROFILE_IMAGE_VIEW, null, String.valueOf(userId));
+        Set<String> keys = memberProfileService.filterViewableProfileImages(request.keys());
+        Map<String, PresignedUrl> presignedUrls = imageService.getPresignedUrls(keys);
+
+        Map<String, String> urls = new LinkedHashMap<>();
+        presignedUrls.forEach((key, presignedUrl) -> urls.put(key, presignedUrl.url()));
+        Instant expiresAt = presignedUrls.values().stream()
+                .map(PresignedUrl::expiresAt)
+                .min(Comparator.naturalOrder())
+                .orElse(Instant.now());
+
+        ImageUrlBatchResponse response = new ImageUrlBatchResponse(urls, expiresAt);
+        return ResponseEntity.status(HttpStatus.OK)
+                .cacheControl(cacheControl(expiresAt))
+                .body(ApiResponse.success(response, "프로필 이미지 조회에 성공했습니다."));
+    }
+
+    private CacheControl cacheControl(Instant expiresAt) {
+        Duration maxAge = Duration.between(Instant.now(), expiresAt).minus(CLIENT_EXPIRY_MARGIN);
+        if (maxAge.isNegative()) {
+            return CacheControl.noStore();
+        }
+        return CacheControl.maxAge(maxAge).cachePrivate();
+    }
+
+    private String etag(String url) {
+        return "\"" + DigestUtils.md5DigestAsHex(url.getBytes(StandardCharsets.UTF_8)) + "\"";
     }
 }
@@ -13,13 +13,15 @@ import java.time.LocalDateTime;
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, MemberEntityListener.class})
 @Table(
         name = "members",
         uniqueConstraints = {
                 @UniqueConstraint(name = "unique_email", columnNames = "email"),
                 @UniqueConstraint(name = "unique_nickname", columnNames = "nickname")
-        }
+        },
+        // 프로필 이미지 조회 권한 확인용
+        indexes = @Index(name = "idx_members_profile_image", columnList = "profileImage")
 )
 public class Member {
 
@@ -73,8 +75,4 @@ public class Member {
         return new Member(email, encryptedPassword, nickname, profileImage);
     }
 
-    public void updateLastLoginAt(LocalDateTime lastLoginAt) {
-        this.lastLoginAt = lastLoginAt;
-    }
-
 }
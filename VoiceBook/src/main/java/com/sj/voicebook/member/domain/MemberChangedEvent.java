@@ -0,0 +1,7 @@
+package com.sj.voicebook.member.domain;
+
+/**
+ * 회원 정보가 변경/삭제되었음을 알리는 이벤트
+ */
+public record MemberChangedEvent(Long userId) {
+}
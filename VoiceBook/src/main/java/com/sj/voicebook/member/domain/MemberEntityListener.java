@@ -0,0 +1,24 @@
+package com.sj.voicebook.member.domain;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 엔티티를 통한 회원 변경을 MemberChangedEvent로 발행
+ * JPQL/JDBC bulk update는 감지되지 않으므로 캐시된 항목을 바꾸는 경우 직접 무효화해야 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MemberEntityListener {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @PostUpdate
+    @PostRemove
+    public void onChanged(Member member) {
+        applicationEventPublisher.publishEvent(new MemberChangedEvent(member.getUserId()));
+    }
+}
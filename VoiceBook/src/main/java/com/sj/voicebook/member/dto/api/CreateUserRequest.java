@@ -17,7 +17,10 @@ public record CreateUserRequest(
 
         @NotBlank(message = "닉네임은 필수입니다")
         @Size(min = 2, max = 20, message = "닉네임은 2~20자여야 합니다")
-        String nickname
+        String nickname,
+
+        // 업로드 URL 발급 후 S3에 직접 올린 프로필 이미지 key (선택)
+        String profileImageKey
 
 ) {
 }
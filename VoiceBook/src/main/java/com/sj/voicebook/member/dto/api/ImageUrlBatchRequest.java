@@ -0,0 +1,13 @@
+package com.sj.voicebook.member.dto.api;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record ImageUrlBatchRequest(
+        @NotEmpty(message = "이미지 key는 필수입니다")
+        @Size(max = 100, message = "한 번에 최대 100개까지 조회할 수 있습니다")
+        List<String> keys
+) {
+}
@@ -0,0 +1,10 @@
+package com.sj.voicebook.member.dto.api;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * key별 조회용 URL - expiresAt은 포함된 URL 중 가장 먼저 만료되는 시각
+ */
+public record ImageUrlBatchResponse(Map<String, String> urls, Instant expiresAt) {
+}
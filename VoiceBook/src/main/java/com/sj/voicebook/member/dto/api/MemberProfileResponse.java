@@ -0,0 +1,4 @@
+package com.sj.voicebook.member.dto.api;
+
+public record MemberProfileResponse(Long userId, String email, String nickname, String profileImage) {
+}
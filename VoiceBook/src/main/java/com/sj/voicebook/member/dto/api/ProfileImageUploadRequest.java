@@ -0,0 +1,13 @@
+package com.sj.voicebook.member.dto.api;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+
+public record ProfileImageUploadRequest(
+        @NotBlank(message = "Content-Type은 필수입니다")
+        String contentType,
+
+        @Positive(message = "파일 크기는 0보다 커야 합니다")
+        long contentLength
+) {
+}
@@ -0,0 +1,11 @@
+package com.sj.voicebook.member.dto.api;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * S3 직접 업로드 정보 - 클라이언트는 headers를 그대로 포함해 url로 PUT 한 뒤, key를 회원가입 요청에 담는다.
+ */
+public record ProfileImageUploadResponse(String key, String url, Map<String, List<String>> headers, Instant expiresAt) {
+}
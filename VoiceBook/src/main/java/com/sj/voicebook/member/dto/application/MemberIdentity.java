@@ -0,0 +1,7 @@
+package com.sj.voicebook.member.dto.application;
+
+/**
+ * 이메일/닉네임 중복 검사용 회원 식별 정보
+ */
+public record MemberIdentity(Long userId, String email, String nickname) {
+}
@@ -0,0 +1,13 @@
+package com.sj.voicebook.member.dto.application;
+
+import com.sj.voicebook.global.Role;
+
+/**
+ * 캐시에 보관하는 회원 정보 - 토큰 재발급과 프로필 조회에 함께 사용
+ */
+public record MemberProfileInfo(Long userId, String email, String nickname, String profileImage, Role role) {
+
+    public MemberTokenInfo toTokenInfo() {
+        return new MemberTokenInfo(userId, email, role);
+    }
+}
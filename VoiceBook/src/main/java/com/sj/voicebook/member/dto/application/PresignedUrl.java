@@ -0,0 +1,9 @@
+package com.sj.voicebook.member.dto.application;
+
+import java.time.Instant;
+
+/**
+ * 발급된 조회용 URL과 만료 시각
+ */
+public record PresignedUrl(String url, Instant expiresAt) {
+}
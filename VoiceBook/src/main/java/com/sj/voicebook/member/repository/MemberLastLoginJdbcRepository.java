@@ -0,0 +1,36 @@
+package com.sj.voicebook.member.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class MemberLastLoginJdbcRepository {
+
+    private static final String UPDATE_LAST_LOGIN_AT_SQL =
+            "UPDATE members SET last_login_at = ? WHERE user_id = ? " +
+            "AND (last_login_at IS NULL OR last_login_at < ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 마지막 로그인 시간을 JDBC batch 한 번으로 갱신
+     * 이미 더 최신 값이 저장된 행은 덮어쓰지 않는다.
+     */
+    public void batchUpdateLastLoginAt(Map<Long, LocalDateTime> lastLoginAts) {
+        List<Object[]> batchArgs = lastLoginAts.entrySet().stream()
+                .map(entry -> {
+                    Timestamp lastLoginAt = Timestamp.valueOf(entry.getValue());
+                    return new Object[]{lastLoginAt, entry.getKey(), lastLoginAt};
+                })
+                .toList();
+
+        jdbcTemplate.batchUpdate(UPDATE_LAST_LOGIN_AT_SQL, batchArgs);
+    }
+}
@@ -2,11 +2,18 @@ package com.sj.voicebook.member.repository;
 
 import com.sj.voicebook.member.domain.Member;
 import com.sj.voicebook.member.dto.application.MemberAuthInfo;
+import com.sj.voicebook.member.dto.application.MemberIdentity;
+import com.sj.voicebook.member.dto.application.MemberProfileInfo;
 import com.sj.voicebook.member.dto.application.MemberTokenInfo;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
@@ -29,4 +36,37 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
             "m.userId, m.email, m.role) " +
             "FROM Member m WHERE m.userId = :userId")
     Optional<MemberTokenInfo> findTokenInfoById(@Param("userId") Long userId);
+
+    /**
+     * 회원 캐시 적재용 프로필 정보 조회
+     */
+    @Query("SELECT new com.sj.voicebook.member.dto.application.MemberProfileInfo(" +
+            "m.userId, m.email, m.nickname, m.profileImage, m.role) " +
+            "FROM Member m WHERE m.userId = :userId")
+    Optional<MemberProfileInfo> findProfileInfoById(@Param("userId") Long userId);
+
+    /**
+     * 주어진 key 중 회원 프로필 이미지로 사용 중인 key
+     */
+    @Query("SELECT m.profileImage FROM Member m WHERE m.profileImage IN :keys")
+    List<String> findProfileImagesIn(@Param("keys") Collection<String> keys);
+
+    /**
+     * 중복 검사 필터 적재용 - userId 기준 keyset 페이징
+     */
+    @Query("SELECT new com.sj.voicebook.member.dto.application.MemberIdentity(" +
+            "m.userId, m.email, m.nickname) " +
+            "FROM Member m WHERE m.userId > :lastUserId ORDER BY m.userId")
+    List<MemberIdentity> findIdentitiesAfter(@Param("lastUserId") Long lastUserId, Pageable pageable);
+
+    /**
+     * 비밀번호 해시 교체 - 조회 이후 비밀번호가 바뀌지 않은 경우에만 갱신
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Member m SET m.password = :newPassword " +
+            "WHERE m.userId = :userId AND m.password = :currentPassword")
+    int updatePassword(@Param("userId") Long userId,
+                       @Param("currentPassword") String currentPassword,
+                       @Param("newPassword") String newPassword);
 }
@@ -1,8 +1,14 @@
 package com.sj.voicebook.member.service;
 
-import org.springframework.web.multipart.MultipartFile;
+import com.sj.voicebook.member.dto.application.PresignedUrl;
+
+import java.util.Collection;
+import java.util.Map;
 
 public interface ImageService {
-    String upload(MultipartFile file);
     String getImageUrl(String imageKey);
+    String getImageUrl(String imageKey, int width);
+    PresignedUrl getPresignedUrl(String imageKey);
+    PresignedUrl getPresignedUrl(String imageKey, int width);
+    Map<String, PresignedUrl> getPresignedUrls(Collection<String> imageKeys);
 }
@@ -3,17 +3,19 @@ package com.sj.voicebook.member.service.impl;
 import com.sj.voicebook.global.exception.BusinessException;
 import com.sj.voicebook.global.exception.ErrorCode;
 import com.sj.voicebook.global.jwt.JwtTokenProvider;
+import com.sj.voicebook.global.security.PasswordHasher;
+import com.sj.voicebook.global.util.CompareResult;
 import com.sj.voicebook.global.util.RedisUtil;
-import com.sj.voicebook.member.domain.Member;
 import com.sj.voicebook.member.dto.api.LoginResponse;
 import com.sj.voicebook.member.dto.api.RefreshTokenResponse;
 import com.sj.voicebook.member.dto.application.MemberAuthInfo;
+import com.sj.voicebook.member.dto.application.MemberProfileInfo;
 import com.sj.voicebook.member.dto.application.MemberTokenInfo;
 import com.sj.voicebook.member.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
@@ -25,26 +27,30 @@ import java.time.LocalDateTime;
 public class AuthService {
 
     private final MemberRepository memberRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final JwtTokenProvider jwtTokenProvider;
     private final RedisUtil redisUtil;
+    private final LastLoginWriteBuffer lastLoginWriteBuffer;
+    private final MemberCache memberCache;
 
     private static final String REFRESH_TOKEN_PREFIX = "RT:";
 
     /**
      * 로그인 - 필요한 정보만 조회하여 인증 처리
      */
-    @Transactional
     public LoginResponse login(String email, String password) {
         // 로그인에 필요한 정보만 조회
         MemberAuthInfo memberAuthInfo = memberRepository.findAuthInfoByEmail(email)
                 .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
 
-        // 비밀번호 검증
-        if (!passwordEncoder.matches(password, memberAuthInfo.password())) {
+        // 비밀번호 검증 (해싱 전용 executor에서 실행)
+        if (!passwordHasher.matches(password, memberAuthInfo.password())) {
             throw new BusinessException(ErrorCode.INVALID_PASSWORD);
         }
 
+        // 이전 work factor로 저장된 비밀번호는 백그라운드에서 재해싱
+        rehashPasswordIfNeeded(memberAuthInfo.userId(), password, memberAuthInfo.password());
+
         // 토큰 생성
         String accessToken = jwtTokenProvider.createAccessToken(
                 memberAuthInfo.userId(),
@@ -62,10 +68,8 @@ public class AuthService {
                 refreshTokenExpirationMinutes
         );
 
-        // 마지막 로그인 시간 업데이트를 위해 엔티티 조회
-        Member member = memberRepository.findById(memberAuthInfo.userId())
-                .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
-        member.updateLastLoginAt(LocalDateTime.now());
+        // 마지막 로그인 시간은 write-behind 버퍼에 기록 후 batch로 반영
+        lastLoginWriteBuffer.record(memberAuthInfo.userId(), LocalDateTime.now());
 
         log.info("User logged in: {}", memberAuthInfo.email());
 
@@ -80,31 +84,17 @@ public class AuthService {
     }
 
     /**
-     * 토큰 재발급 - 필요한 정보만 조회하여 토큰 생성
+     * 토큰 재발급 - 회원 캐시와 Redis만 사용하므로 DB 트랜잭션(커넥션)을 열지 않는다.
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public RefreshTokenResponse refresh(String refreshToken) {
-        // RefreshToken 유효성 검증
-        if (!jwtTokenProvider.validateToken(refreshToken)) {
-            throw new BusinessException(ErrorCode.INVALID_TOKEN);
-        }
-
-        // RefreshToken에서 userId 추출
-        Long userId = jwtTokenProvider.getUserId(refreshToken);
+        // RefreshToken 유효성 검증 및 userId 추출 (한 번만 파싱)
+        Long userId = jwtTokenProvider.parsePrincipal(refreshToken).userId();
 
-        // Redis에서 저장된 RefreshToken 조회
-        String savedRefreshToken = redisUtil.getData(REFRESH_TOKEN_PREFIX + userId);
-        if (savedRefreshToken == null) {
-            throw new BusinessException(ErrorCode.REFRESH_TOKEN_NOT_FOUND);
-        }
-
-        // RefreshToken 일치 여부 확인
-        if (!savedRefreshToken.equals(refreshToken)) {
-            throw new BusinessException(ErrorCode.INVALID_TOKEN);
-        }
-
-        // 토큰 재발급에 필요한 정보만 조회
-        MemberTokenInfo memberTokenInfo = memberRepository.findTokenInfoById(userId)
+        // 토큰 재발급에 필요한 정보는 회원 캐시에서 조회
+        // 권한 등 회원 정보가 바뀌면 커밋 후 모든 노드의 캐시가 무효화되므로 다음 재발급부터 새 값이 담긴다.
+        MemberTokenInfo memberTokenInfo = memberCache.getProfile(userId)
+                .map(MemberProfileInfo::toTokenInfo)
                 .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
 
         // 새로운 토큰 생성
@@ -116,19 +106,48 @@ public class AuthService {
 
         String newRefreshToken = jwtTokenProvider.createRefreshToken(memberTokenInfo.userId());
 
-        // 새로운 RefreshToken을 Redis에 저장
+        // 저장된 RefreshToken이 요청 토큰과 같을 때만 새 토큰으로 교체 (원자적 rotation)
+        // 같은 토큰으로 동시에 재발급을 요청하면 하나만 성공한다.
         long refreshTokenExpirationMinutes = jwtTokenProvider.getRefreshTokenExpiration() / 60000;
-        redisUtil.setDataExpire(
-                REFRESH_TOKEN_PREFIX + memberTokenInfo.userId(),
+        CompareResult result = redisUtil.compareAndSwap(
+                REFRESH_TOKEN_PREFIX + userId,
+                refreshToken,
                 newRefreshToken,
                 refreshTokenExpirationMinutes
         );
 
+        if (result == CompareResult.NOT_FOUND) {
+            throw new BusinessException(ErrorCode.REFRESH_TOKEN_NOT_FOUND);
+        }
+        if (result != CompareResult.MATCHED) {
+            throw new BusinessException(ErrorCode.INVALID_TOKEN);
+        }
+
         log.info("Token refreshed for user: {}", memberTokenInfo.email());
 
         return new RefreshTokenResponse(newAccessToken, newRefreshToken);
     }
 
+    /**
+     * 비밀번호 재해싱 - 로그인 응답을 기다리게 하지 않으며, 대기열이 가득 차면 다음 로그인으로 미룬다.
+     */
+    private void rehashPasswordIfNeeded(Long userId, String rawPassword, String encodedPassword) {
+        if (!passwordHasher.needsRehash(encodedPassword)) {
+            return;
+        }
+
+        try {
+            passwordHasher.encodeAsync(rawPassword)
+                    .thenAccept(rehashed -> memberRepository.updatePassword(userId, encodedPassword, rehashed))
+                    .exceptionally(ex -> {
+                        log.error("Failed to rehash password for user: {}", userId, ex);
+                        return null;
+                    });
+        } catch (BusinessException e) {
+            log.warn("Skipped password rehash for user: {}", userId);
+        }
+    }
+
     /**
      * 로그아웃 - Redis에서 RefreshToken 삭제
      */
@@ -0,0 +1,168 @@
+package com.sj.voicebook.member.service.impl;
+
+import com.sj.voicebook.member.repository.MemberLastLoginJdbcRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 마지막 로그인 시간 write-behind 버퍼
+ * 로그인 트랜잭션에서 UPDATE를 하지 않고 userId별로 최신 시각만 메모리에 모아 두었다가
+ * 주기적으로 한 번의 batch UPDATE로 반영한다.
+ * - 버퍼가 max-pending에 닿으면 scheduler 스레드에 조기 반영을 맡기고, 로그인 요청 스레드는 기다리지 않는다.
+ * - 버퍼는 max-pending을 넘지 않으며, 넘치는 새 회원의 기록은 버린다 (다음 로그인 때 다시 기록된다).
+ * - 반영이 실패하면 다음 정기 주기까지 조기 반영을 하지 않아 DB 장애 중 재시도가 몰리지 않는다.
+ */
+@Slf4j
+@Component
+public class LastLoginWriteBuffer {
+
+    private final MemberLastLoginJdbcRepository memberLastLoginJdbcRepository;
+    private final TaskScheduler taskScheduler;
+    private final int maxPending;
+    private final Duration flushInterval;
+
+    private final ConcurrentHashMap<Long, LocalDateTime> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicBoolean earlyFlushScheduled = new AtomicBoolean();
+    private volatile Instant earlyFlushNotBefore = Instant.EPOCH;
+
+    private final Counter droppedCounter;
+
+    public LastLoginWriteBuffer(
+            MemberLastLoginJdbcRepository memberLastLoginJdbcRepository,
+            TaskScheduler taskScheduler,
+            MeterRegistry meterRegistry,
+            @Value("${member.last-login.max-pending:10000}") int maxPending,
+            @Value("${member.last-login.flush-interval-ms:5000}") long flushIntervalMillis
+    ) {
+        this.memberLastLoginJdbcRepository = memberLastLoginJdbcRepository;
+        this.taskScheduler = taskScheduler;
+        this.maxPending = maxPending;
+        this.flushInterval = Duration.ofMillis(flushIntervalMillis);
+        this.droppedCounter = meterRegistry.counter("member.last.login.dropped");
+        meterRegistry.gaugeMapSize("member.last.login.pending", Tags.empty(), pending);
+    }
+
+    /**
+     * 로그인 시각 기록 - 같은 회원의 여러 로그인은 가장 최근 시각 하나로 합쳐진다.
+     */
+    public void record(Long userId, LocalDateTime lastLoginAt) {
+        if (pending.size() >= maxPending && !pending.containsKey(userId)) {
+            droppedCounter.increment();
+            requestEarlyFlush();
+            return;
+        }
+        pending.merge(userId, lastLoginAt, LastLoginWriteBuffer::latest);
+
+        if (pending.size() >= maxPending) {
+            requestEarlyFlush();
+        }
+    }
+
+    /**
+     * 주기적 반영 - 반영 지연은 flush-interval-ms 이내로 제한된다.
+     */
+    @Scheduled(fixedDelayString = "${member.last-login.flush-interval-ms:5000}")
+    public void flush() {
+        if (pending.isEmpty() || !flushLock.tryLock()) {
+            return;
+        }
+        try {
+            flushPending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 종료 시 남아 있는 기록을 모두 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushLock.lock();
+        try {
+            flushPending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 버퍼가 가득 찼을 때 scheduler 스레드에서 한 번만 반영 - 직전 반영이 실패했으면 정기 주기를 기다린다.
+     */
+    private void requestEarlyFlush() {
+        if (Instant.now().isBefore(earlyFlushNotBefore) || !earlyFlushScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            taskScheduler.schedule(() -> {
+                earlyFlushScheduled.set(false);
+                flush();
+            }, Instant.now());
+        } catch (TaskRejectedException e) {
+            earlyFlushScheduled.set(false);
+        }
+    }
+
+    private void flushPending() {
+        Map<Long, LocalDateTime> batch = new HashMap<>();
+        for (Long userId : pending.keySet()) {
+            LocalDateTime lastLoginAt = pending.remove(userId);
+            if (lastLoginAt != null) {
+                batch.put(userId, lastLoginAt);
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            memberLastLoginJdbcRepository.batchUpdateLastLoginAt(batch);
+            log.debug("Flushed last login time for {} members", batch.size());
+        } catch (DataAccessException e) {
+            log.error("Failed to flush last login time for {} members", batch.size(), e);
+            earlyFlushNotBefore = Instant.now().plus(flushInterval);
+            restore(batch);
+        }
+    }
+
+    /**
+     * 실패한 기록을 버퍼로 되돌려 다음 주기에 재시도 - max-pending을 넘는 만큼은 버린다.
+     */
+    private void restore(Map<Long, LocalDateTime> batch) {
+        int dropped = 0;
+        for (Map.Entry<Long, LocalDateTime> entry : batch.entrySet()) {
+            if (pending.size() >= maxPending && !pending.containsKey(entry.getKey())) {
+                dropped++;
+                continue;
+            }
+            pending.merge(entry.getKey(), entry.getValue(), LastLoginWriteBuffer::latest);
+        }
+        if (dropped > 0) {
+            droppedCounter.increment(dropped);
+            log.warn("Dropped last login time for {} members after failed flush", dropped);
+        }
+    }
+
+    private static LocalDateTime latest(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+}
@@ -0,0 +1,195 @@
+package com.sj.voicebook.member.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sj.voicebook.global.util.RedisUtil;
+import com.sj.voicebook.member.domain.MemberChangedEvent;
+import com.sj.voicebook.member.dto.application.MemberProfileInfo;
+import com.sj.voicebook.member.repository.MemberRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 회원 정보 2단계 read-through 캐시
+ * L1: 노드 로컬 Caffeine (크기/TTL 제한), L2: Redis 공유 캐시, 모두 없으면 DB 조회
+ * 회원이 변경되면 L2를 지우고 pub/sub으로 모든 노드의 L1을 무효화한다.
+ * L2에는 회원별 버전을 두어, 무효화 전에 시작된 DB 조회 결과(이전 값)가 무효화 뒤에 저장되지 않게 한다.
+ */
+@Slf4j
+@Component
+public class MemberCache implements MessageListener {
+
+    private static final String KEY_PREFIX = "member:profile:";
+    private static final String VERSION_KEY_PREFIX = "member:profile:version:";
+    private static final String CHANNEL = "member:invalidated";
+    private static final RedisScript<Long> SET_IF_VERSION_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/redis/set-if-version.lua"), Long.class);
+    private static final RedisScript<Long> INVALIDATE_VERSION_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/redis/invalidate-version.lua"), Long.class);
+
+    private final MemberRepository memberRepository;
+    private final RedisUtil redisUtil;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ObjectMapper objectMapper;
+    private final long redisTtlMinutes;
+
+    private final Cache<Long, MemberProfileInfo> localCache;
+
+    private final Counter localHits;
+    private final Counter localMisses;
+    private final Counter redisHits;
+    private final Counter redisMisses;
+
+    public MemberCache(
+            MemberRepository memberRepository,
+            RedisUtil redisUtil,
+            StringRedisTemplate stringRedisTemplate,
+            RedisMessageListenerContainer redisMessageListenerContainer,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${member.cache.local-maximum-size:10000}") long localMaximumSize,
+            @Value("${member.cache.local-ttl:1m}") Duration localTtl,
+            @Value("${member.cache.redis-ttl-minutes:30}") long redisTtlMinutes
+    ) {
+        this.memberRepository = memberRepository;
+        this.redisUtil = redisUtil;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.objectMapper = objectMapper;
+        this.redisTtlMinutes = redisTtlMinutes;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaximumSize)
+                // 무효화 메시지가 유실되더라도 이 시간 이후에는 갱신된다.
+                .expireAfterWrite(localTtl)
+                .build();
+
+        // 레벨별 히트율 = hit / (hit + miss)
+        this.localHits = meterRegistry.counter("member.cache.gets", "level", "local", "result", "hit");
+        this.localMisses = meterRegistry.counter("member.cache.gets", "level", "local", "result", "miss");
+        this.redisHits = meterRegistry.counter("member.cache.gets", "level", "redis", "result", "hit");
+        this.redisMisses = meterRegistry.counter("member.cache.gets", "level", "redis", "result", "miss");
+    }
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    public Optional<MemberProfileInfo> getProfile(Long userId) {
+        MemberProfileInfo cached = localCache.getIfPresent(userId);
+        if (cached != null) {
+            localHits.increment();
+            return Optional.of(cached);
+        }
+        localMisses.increment();
+
+        // 값과 버전을 한 번에 읽는다 - 버전은 DB 조회 결과를 저장할 때 비교한다.
+        Map<String, String> stored = readRedis(userId);
+        MemberProfileInfo profile = stored != null ? parse(userId, stored.get(KEY_PREFIX + userId)) : null;
+        if (profile != null) {
+            redisHits.increment();
+            localCache.put(userId, profile);
+            return Optional.of(profile);
+        }
+        redisMisses.increment();
+
+        Optional<MemberProfileInfo> loaded = memberRepository.findProfileInfoById(userId);
+        loaded.ifPresent(info -> {
+            if (stored != null) {
+                writeRedis(info, stored.getOrDefault(VERSION_KEY_PREFIX + userId, ""));
+            }
+            localCache.put(userId, info);
+        });
+        return loaded;
+    }
+
+    /**
+     * 회원 변경 트랜잭션이 커밋된 뒤 무효화 - 커밋 전 값이 다시 캐시되는 것을 막는다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberChanged(MemberChangedEvent event) {
+        evict(event.userId());
+    }
+
+    public void evict(Long userId) {
+        localCache.invalidate(userId);
+        try {
+            stringRedisTemplate.execute(INVALIDATE_VERSION_SCRIPT,
+                    List.of(KEY_PREFIX + userId, VERSION_KEY_PREFIX + userId),
+                    String.valueOf(Duration.ofMinutes(redisTtlMinutes).multipliedBy(2).toMillis()));
+            stringRedisTemplate.convertAndSend(CHANNEL, String.valueOf(userId));
+        } catch (DataAccessException e) {
+            // 다른 노드의 L1은 local-ttl 이후 갱신된다.
+            log.error("Failed to invalidate member cache: {}", userId, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            localCache.invalidate(Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8)));
+        } catch (NumberFormatException e) {
+            log.error("Invalid member invalidation message", e);
+        }
+    }
+
+    private Map<String, String> readRedis(Long userId) {
+        try {
+            return redisUtil.multiGet(List.of(KEY_PREFIX + userId, VERSION_KEY_PREFIX + userId));
+        } catch (DataAccessException e) {
+            // Redis 장애 시 DB 조회로 대체하고 L2에는 저장하지 않음
+            log.warn("Failed to read member cache: {}", userId, e);
+            return null;
+        }
+    }
+
+    private MemberProfileInfo parse(Long userId, String json) {
+        if (json == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, MemberProfileInfo.class);
+        } catch (JsonProcessingException e) {
+            // 이전 형식의 값은 DB 조회로 대체
+            log.warn("Invalid member cache value: {}", userId, e);
+            return null;
+        }
+    }
+
+    /**
+     * 조회 전에 읽은 버전이 그대로일 때만 저장 - 그 사이 회원이 변경되었으면 다음 조회가 DB에서 다시 읽는다.
+     */
+    private void writeRedis(MemberProfileInfo profile, String version) {
+        try {
+            stringRedisTemplate.execute(SET_IF_VERSION_SCRIPT,
+                    List.of(KEY_PREFIX + profile.userId(), VERSION_KEY_PREFIX + profile.userId()),
+                    version,
+                    objectMapper.writeValueAsString(profile),
+                    String.valueOf(Duration.ofMinutes(redisTtlMinutes).toMillis()));
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("Failed to write member cache: {}", profile.userId(), e);
+        }
+    }
+}
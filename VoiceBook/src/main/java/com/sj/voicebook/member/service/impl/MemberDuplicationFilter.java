@@ -0,0 +1,206 @@
+package com.sj.voicebook.member.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sj.voicebook.global.util.BloomFilter;
+import com.sj.voicebook.member.dto.application.MemberIdentity;
+import com.sj.voicebook.member.repository.MemberRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.text.Normalizer;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 이메일/닉네임 중복 검사 API 앞단의 Bloom filter
+ * 필터에 없다고 나오면 DB 조회 없이 "사용 가능"으로 판단하고, 있을 수도 있을 때만 DB로 확인한다.
+ * 시작 시 members 테이블에서 적재하며, 회원 가입 시 Redis pub/sub으로 다른 노드의 필터에도 반영한다.
+ * pub/sub 메시지는 유실될 수 있으므로 rebuild-interval 마다 DB에서 새로 만들어 교체한다.
+ * 실제 가입은 이 필터를 거치지 않고 DB로 중복을 확인한다 (SignUpServiceImpl).
+ */
+@Slf4j
+@Component
+public class MemberDuplicationFilter implements MessageListener {
+
+    private static final String CHANNEL = "member:registered";
+    private static final int LOAD_PAGE_SIZE = 1000;
+
+    private final MemberRepository memberRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ObjectMapper objectMapper;
+
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+
+    private volatile Filters filters;
+    // 다시 만드는 중인 필터 - 적재 중에 가입한 회원도 새 필터에 넣기 위해 함께 기록한다.
+    private volatile Filters rebuilding;
+    // 첫 적재가 끝나기 전에는 모든 조회를 DB로 보낸다.
+    private volatile boolean ready;
+
+    private final Counter skippedCounter;
+    private final Counter confirmedCounter;
+
+    public MemberDuplicationFilter(
+            MemberRepository memberRepository,
+            StringRedisTemplate stringRedisTemplate,
+            RedisMessageListenerContainer redisMessageListenerContainer,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${member.bloom.expected-insertions:1000000}") long expectedInsertions,
+            @Value("${member.bloom.false-positive-rate:0.01}") double falsePositiveRate
+    ) {
+        this.memberRepository = memberRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.objectMapper = objectMapper;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filters = newFilters();
+        this.skippedCounter = meterRegistry.counter("member.bloom.checks", "result", "negative");
+        this.confirmedCounter = meterRegistry.counter("member.bloom.checks", "result", "possible");
+    }
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        rebuild();
+    }
+
+    /**
+     * DB에서 새 필터를 만들어 교체 - 놓친 가입 메시지와 탈퇴/변경으로 쌓인 오탐을 정리한다.
+     */
+    @Scheduled(initialDelayString = "${member.bloom.rebuild-interval-ms:3600000}",
+            fixedDelayString = "${member.bloom.rebuild-interval-ms:3600000}")
+    public synchronized void rebuild() {
+        Filters next = newFilters();
+        rebuilding = next;
+        long loaded = 0;
+        try {
+            long lastUserId = 0L;
+            List<MemberIdentity> page;
+            do {
+                page = memberRepository.findIdentitiesAfter(lastUserId, PageRequest.of(0, LOAD_PAGE_SIZE));
+                for (MemberIdentity identity : page) {
+                    next.put(normalizeEmail(identity.email()), normalizeNickname(identity.nickname()));
+                    lastUserId = identity.userId();
+                }
+                loaded += page.size();
+            } while (page.size() == LOAD_PAGE_SIZE);
+            filters = next;
+        } catch (DataAccessException e) {
+            // 기존 필터를 계속 사용
+            log.error("Failed to rebuild duplication filter", e);
+            return;
+        } finally {
+            rebuilding = null;
+        }
+
+        ready = true;
+        log.info("Loaded {} members into duplication filter", loaded);
+    }
+
+    /**
+     * false면 확실히 사용 중이 아닌 이메일
+     */
+    public boolean mightContainEmail(String email) {
+        return check(filters.email(), normalizeEmail(email));
+    }
+
+    /**
+     * false면 확실히 사용 중이 아닌 닉네임
+     */
+    public boolean mightContainNickname(String nickname) {
+        return check(filters.nickname(), normalizeNickname(nickname));
+    }
+
+    /**
+     * 새 회원 반영 - 로컬 필터에 추가하고 다른 노드에 전파
+     */
+    public void register(String email, String nickname) {
+        put(email, nickname);
+        try {
+            String message = objectMapper.writeValueAsString(new MemberIdentity(null, email, nickname));
+            stringRedisTemplate.convertAndSend(CHANNEL, message);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to publish registered member: {}", email, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            MemberIdentity identity = objectMapper.readValue(message.getBody(), MemberIdentity.class);
+            put(identity.email(), identity.nickname());
+        } catch (IOException e) {
+            log.error("Invalid member registration message", e);
+        }
+    }
+
+    private boolean check(BloomFilter filter, String value) {
+        if (ready && !filter.mightContain(value)) {
+            skippedCounter.increment();
+            return false;
+        }
+        confirmedCounter.increment();
+        return true;
+    }
+
+    private void put(String email, String nickname) {
+        String normalizedEmail = normalizeEmail(email);
+        String normalizedNickname = normalizeNickname(nickname);
+        Filters current = filters;
+        current.put(normalizedEmail, normalizedNickname);
+        Filters next = rebuilding;
+        if (next != null) {
+            next.put(normalizedEmail, normalizedNickname);
+        }
+        // 그 사이 교체가 끝났으면 새 필터에도 넣는다.
+        Filters latest = filters;
+        if (latest != current) {
+            latest.put(normalizedEmail, normalizedNickname);
+        }
+    }
+
+    private Filters newFilters() {
+        return new Filters(new BloomFilter(expectedInsertions, falsePositiveRate),
+                new BloomFilter(expectedInsertions, falsePositiveRate));
+    }
+
+    private String normalizeEmail(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private String normalizeNickname(String nickname) {
+        return Normalizer.normalize(nickname.trim(), Normalizer.Form.NFC);
+    }
+
+    private record Filters(BloomFilter email, BloomFilter nickname) {
+
+        void put(String email, String nickname) {
+            this.email.put(email);
+            this.nickname.put(nickname);
+        }
+    }
+}
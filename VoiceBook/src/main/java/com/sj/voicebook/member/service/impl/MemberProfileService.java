@@ -0,0 +1,91 @@
+package com.sj.voicebook.member.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sj.voicebook.global.exception.BusinessException;
+import com.sj.voicebook.global.exception.ErrorCode;
+import com.sj.voicebook.member.dto.api.MemberProfileResponse;
+import com.sj.voicebook.member.dto.application.MemberProfileInfo;
+import com.sj.voicebook.member.repository.MemberRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+@Service
+public class MemberProfileService {
+
+    private final MemberCache memberCache;
+    private final MemberRepository memberRepository;
+
+    // 회원 프로필 이미지로 확인된 key - 같은 피드를 다시 조회할 때 DB를 거치지 않는다.
+    private final Cache<String, Boolean> viewableImageKeys;
+
+    public MemberProfileService(
+            MemberCache memberCache,
+            MemberRepository memberRepository,
+            @Value("${image.presign.cache-maximum-size:50000}") long cacheMaximumSize,
+            @Value("${image.presign.viewable-cache-ttl:10m}") Duration viewableCacheTtl
+    ) {
+        this.memberCache = memberCache;
+        this.memberRepository = memberRepository;
+        this.viewableImageKeys = Caffeine.newBuilder()
+                .maximumSize(cacheMaximumSize)
+                .expireAfterWrite(viewableCacheTtl)
+                .build();
+    }
+
+    /**
+     * 내 프로필 조회 - 회원 캐시를 통해 조회
+     */
+    public MemberProfileResponse getMyProfile(Long userId) {
+        MemberProfileInfo profile = memberCache.getProfile(userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
+        return new MemberProfileResponse(profile.userId(), profile.email(), profile.nickname(), profile.profileImage());
+    }
+
+    /**
+     * 회원 프로필 이미지로 사용 중인 key가 아니면 PROFILE_IMAGE_NOT_FOUND
+     * 같은 버킷의 녹음/미디어 key로 조회 URL을 발급받지 못하게 한다.
+     */
+    public void checkViewableProfileImage(String key) {
+        if (filterViewableProfileImages(List.of(key)).isEmpty()) {
+            throw new BusinessException(ErrorCode.PROFILE_IMAGE_NOT_FOUND);
+        }
+    }
+
+    /**
+     * 주어진 key 중 회원 프로필 이미지로 사용 중인 key만 요청 순서대로 반환
+     */
+    public Set<String> filterViewableProfileImages(Collection<String> keys) {
+        Set<String> viewable = new LinkedHashSet<>();
+        Set<String> unknown = new HashSet<>();
+        for (String key : keys) {
+            if (viewableImageKeys.getIfPresent(key) != null) {
+                viewable.add(key);
+            } else {
+                unknown.add(key);
+            }
+        }
+        if (unknown.isEmpty()) {
+            return viewable;
+        }
+
+        Set<String> found = new HashSet<>(memberRepository.findProfileImagesIn(unknown));
+        found.forEach(key -> viewableImageKeys.put(key, Boolean.TRUE));
+
+        // 요청 순서 유지
+        Set<String> result = new LinkedHashSet<>();
+        for (String key : keys) {
+            if (viewable.contains(key) || found.contains(key)) {
+                result.add(key);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,195 @@
+package com.sj.voicebook.member.service.impl;
+
+import com.sj.voicebook.global.exception.BusinessException;
+import com.sj.voicebook.global.exception.ErrorCode;
+import com.sj.voicebook.media.domain.ImageUploadedEvent;
+import com.sj.voicebook.member.dto.api.ProfileImageUploadResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Error;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 프로필 이미지 S3 직접 업로드
+ * 1. 서버가 Content-Type/Content-Length가 서명에 포함된 presigned PUT URL을 발급하고, key를 대기 목록(ZSET)에 기록
+ * 2. 클라이언트가 S3로 직접 업로드
+ * 3. 회원가입 시 key를 대기 목록에서 꺼내고 HEAD로 실제 업로드된 객체를 확인
+ * 일정 시간 안에 회원가입에 쓰이지 않은 key의 객체는 sweeper가 삭제한다.
+ */
+@Slf4j
+@Service
+public class ProfileImageUploadService {
+
+    private static final String PENDING_KEY = "profile-image:pending";
+    private static final String KEY_PREFIX = "profile/";
+    private static final Set<String> ALLOWED_CONTENT_TYPES = Set.of("image/jpeg", "image/png", "image/webp", "image/gif");
+    private static final int SWEEP_BATCH_SIZE = 500;
+
+    private final S3Presigner s3Presigner;
+    private final S3Client s3Client;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final String bucketName;
+    private final long maxSize;
+    private final Duration uploadUrlDuration;
+    private final Duration claimTimeout;
+
+    public ProfileImageUploadService(
+            S3Presigner s3Presigner,
+            S3Client s3Client,
+            StringRedisTemplate stringRedisTemplate,
+            ApplicationEventPublisher applicationEventPublisher,
+            @Value("${spring.cloud.aws.s3.bucket}") String bucketName,
+            @Value("${image.upload.max-size:10MB}") DataSize maxSize,
+            @Value("${image.upload.url-duration:10m}") Duration uploadUrlDuration,
+            @Value("${image.upload.claim-timeout:1h}") Duration claimTimeout
+    ) {
+        this.s3Presigner = s3Presigner;
+        this.s3Client = s3Client;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.bucketName = bucketName;
+        this.maxSize = maxSize.toBytes();
+        this.uploadUrlDuration = uploadUrlDuration;
+        this.claimTimeout = claimTimeout;
+    }
+
+    /**
+     * 업로드 URL 발급 - 서명된 Content-Type/Content-Length와 다른 요청은 S3가 거절한다.
+     */
+    public ProfileImageUploadResponse issueUploadUrl(String contentType, long contentLength) {
+        if (!ALLOWED_CONTENT_TYPES.contains(contentType)) {
+            throw new BusinessException(ErrorCode.INVALID_FILE_TYPE);
+        }
+        if (contentLength > maxSize) {
+            throw new BusinessException(ErrorCode.FILE_SIZE_EXCEEDED);
+        }
+
+        String key = KEY_PREFIX + UUID.randomUUID();
+        PutObjectPresignRequest presignRequest = PutObjectPresignRequest.builder()
+                .signatureDuration(uploadUrlDuration)
+                .putObjectRequest(PutObjectRequest.builder()
+                        .bucket(bucketName)
+                        .key(key)
+                        .contentType(contentType)
+                        .contentLength(contentLength)
+                        .build())
+                .build();
+        PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(presignRequest);
+
+        stringRedisTemplate.opsForZSet().add(PENDING_KEY, key, System.currentTimeMillis());
+        return new ProfileImageUploadResponse(key, presigned.url().toString(), presigned.signedHeaders(), presigned.expiration());
+    }
+
+    /**
+     * 회원가입에서 key 사용 - 발급된 적 없거나 이미 사용된 key, 업로드되지 않은 객체는 INVALID_FILE
+     * 회원가입 트랜잭션이 롤백되면 key를 대기 목록에 되돌려 sweeper가 정리하게 한다.
+     */
+    public void claim(String key) {
+        Long removed = stringRedisTemplate.opsForZSet().remove(PENDING_KEY, key);
+        if (removed == null || removed == 0) {
+            throw new BusinessException(ErrorCode.INVALID_FILE);
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        stringRedisTemplate.opsForZSet().add(PENDING_KEY, key, System.currentTimeMillis());
+                    }
+                }
+            });
+        }
+
+        HeadObjectResponse head;
+        try {
+            head = s3Client.headObject(HeadObjectRequest.builder().bucket(bucketName).key(key).build());
+        } catch (NoSuchKeyException e) {
+            throw new BusinessException(ErrorCode.INVALID_FILE);
+        } catch (SdkException e) {
+            log.error("Failed to verify uploaded profile image: {}", key, e);
+            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED);
+        }
+        if (head.contentLength() > maxSize || !ALLOWED_CONTENT_TYPES.contains(head.contentType())) {
+            throw new BusinessException(ErrorCode.INVALID_FILE);
+        }
+
+        // 썸네일 등 축소 이미지는 회원가입 트랜잭션이 커밋된 뒤 백그라운드에서 생성
+        applicationEventPublisher.publishEvent(new ImageUploadedEvent(bucketName, key));
+    }
+
+    /**
+     * claim-timeout 동안 회원가입에 쓰이지 않은 업로드 삭제
+     * 여러 노드가 동시에 실행해도 ZREM에 성공한 노드만 삭제한다.
+     */
+    @Scheduled(fixedDelayString = "${image.upload.sweep-interval-ms:600000}")
+    public void sweepUnclaimed() {
+        long deadline = System.currentTimeMillis() - claimTimeout.toMillis();
+        Set<String> expired = stringRedisTemplate.opsForZSet()
+                .rangeByScore(PENDING_KEY, 0, deadline, 0, SWEEP_BATCH_SIZE);
+        if (expired == null || expired.isEmpty()) {
+            return;
+        }
+
+        // 대기 목록에서 직접 꺼낸 key만 삭제 - 그 사이 회원가입에 사용된 key는 건드리지 않는다.
+        List<ObjectIdentifier> objects = expired.stream()
+                .filter(key -> {
+                    Long removed = stringRedisTemplate.opsForZSet().remove(PENDING_KEY, key);
+                    return removed != null && removed > 0;
+                })
+                .map(key -> ObjectIdentifier.builder().key(key).build())
+                .toList();
+        if (objects.isEmpty()) {
+            return;
+        }
+
+        try {
+            // quiet 모드에서는 삭제에 실패한 key만 응답에 담긴다.
+            DeleteObjectsResponse response = s3Client.deleteObjects(DeleteObjectsRequest.builder()
+                    .bucket(bucketName)
+                    .delete(Delete.builder().objects(objects).quiet(true).build())
+                    .build());
+            List<S3Error> errors = response.errors();
+            if (!errors.isEmpty()) {
+                log.error("Failed to sweep {} of {} unclaimed profile image uploads (first: {} {})",
+                        errors.size(), objects.size(), errors.get(0).code(), errors.get(0).message());
+                requeue(errors.stream().map(S3Error::key).toList(), deadline);
+            }
+            log.info("Swept {} unclaimed profile image uploads", objects.size() - errors.size());
+        } catch (SdkException e) {
+            log.error("Failed to sweep {} unclaimed profile image uploads", objects.size(), e);
+            requeue(objects.stream().map(ObjectIdentifier::key).toList(), deadline);
+        }
+    }
+
+    /**
+     * 다음 실행에서 다시 삭제하도록 대기 목록에 되돌림
+     */
+    private void requeue(List<String> keys, long deadline) {
+        keys.forEach(key -> stringRedisTemplate.opsForZSet().add(PENDING_KEY, key, deadline));
+    }
+}
@@ -1,66 +1,103 @@
 package com.sj.voicebook.member.service.impl;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sj.voicebook.media.service.ImageVariantService;
+import com.sj.voicebook.member.dto.application.PresignedUrl;
 import com.sj.voicebook.member.service.ImageService;
-import io.awspring.cloud.s3.S3Template;
-import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
 
-import java.io.IOException;
-import java.io.InputStream;
 import java.time.Duration;
-import java.util.UUID;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
 
 @Service
-@RequiredArgsConstructor
 public class S3ImageService implements ImageService {
 
-    private final S3Template s3Template; // Spring Cloud AWS가 제공하는 편리한 업로더
     private final S3Presigner s3Presigner; // 우리가 만든 URL 발급기
+    private final ImageVariantService imageVariantService;
+    private final String bucketName;
+    private final Duration signatureDuration;
 
-    @Value("${spring.cloud.aws.s3.bucket}")
-    private String bucketName;
+    // key별 발급된 URL - 만료 reissue-before 전에 캐시에서 빠지므로 항상 충분히 남은 URL을 돌려준다.
+    private final Cache<String, PresignedUrl> presignedUrlCache;
 
-    // 1. 이미지 업로드 (S3에 저장 후 파일명 반환)
+    public S3ImageService(
+            S3Presigner s3Presigner,
+            ImageVariantService imageVariantService,
+            @Value("${spring.cloud.aws.s3.bucket}") String bucketName,
+            @Value("${image.presign.signature-duration:10m}") Duration signatureDuration,
+            @Value("${image.presign.reissue-before:2m}") Duration reissueBefore,
+            @Value("${image.presign.cache-maximum-size:50000}") long cacheMaximumSize
+    ) {
+        this.s3Presigner = s3Presigner;
+        this.imageVariantService = imageVariantService;
+        this.bucketName = bucketName;
+        this.signatureDuration = signatureDuration;
+        this.presignedUrlCache = Caffeine.newBuilder()
+                .maximumSize(cacheMaximumSize)
+                .expireAfterWrite(signatureDuration.minus(reissueBefore))
+                .build();
+    }
+
+    // 1. 조회용 URL 발급 (파일명 -> 임시 URL 변환)
+    @Override
+    public String getImageUrl(String key) {
+        if (key == null) return null;
+        return getPresignedUrl(key).url();
+    }
+
+    // 요청 너비(px)에 맞는 가장 작은 축소 이미지의 URL, 아직 없으면 원본 URL
     @Override
-    public String upload(MultipartFile image) {
-        // 파일 이름이 겹치지 않게 UUID 사용 (예: uuid_profile.jpg)
-        String originalFilename = image.getOriginalFilename();
-        String key = UUID.randomUUID() + "_" + originalFilename;
+    public String getImageUrl(String key, int width) {
+        if (key == null) return null;
+        return getPresignedUrl(key, width).url();
+    }
 
-        try (InputStream inputStream = image.getInputStream()) {
-            // S3Template을 이용해 아주 간단하게 업로드
-            s3Template.upload(bucketName, key, inputStream);
+    @Override
+    public PresignedUrl getPresignedUrl(String key, int width) {
+        return getPresignedUrl(imageVariantService.resolveKey(key, width));
+    }
 
-            // ★ 중요: DB에는 긴 URL이 아니라 이 'key(파일명)'만 저장합니다.
-            return key;
-        } catch (IOException e) {
-            throw new RuntimeException("파일 업로드 실패", e);
-        }
+    // 2. 캐시된 URL 조회 - 만료 reissue-before 전까지는 같은 URL을 재사용
+    @Override
+    public PresignedUrl getPresignedUrl(String key) {
+        return presignedUrlCache.get(key, this::presign);
     }
 
-    // 2. 조회용 URL 발급 (파일명 -> 임시 URL 변환)
+    // 3. 여러 key를 한 번에 조회 - 캐시에 없는 key만 서명
     @Override
-    public String getImageUrl(String key) {
-        if (key == null) return null;
+    public Map<String, PresignedUrl> getPresignedUrls(Collection<String> keys) {
+        return presignedUrlCache.getAll(new LinkedHashSet<>(keys), missingKeys -> {
+            Map<String, PresignedUrl> urls = new HashMap<>();
+            for (String key : missingKeys) {
+                urls.put(key, presign(key));
+            }
+            return urls;
+        });
+    }
 
+    private PresignedUrl presign(String key) {
         // "이 버킷의, 이 파일(key)을, GET(조회) 하겠다"는 요청 생성
         GetObjectRequest getObjectRequest = GetObjectRequest.builder()
                 .bucket(bucketName)
                 .key(key)
                 .build();
 
-        // "위 요청을 10분 동안만 허가하는 서명(URL)" 생성
+        // "위 요청을 signatureDuration 동안만 허가하는 서명(URL)" 생성
         GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
-                .signatureDuration(Duration.ofMinutes(10)) // 유효시간 10분
+                .signatureDuration(signatureDuration)
                 .getObjectRequest(getObjectRequest)
                 .build();
 
-        // 최종 URL 반환
-        return s3Presigner.presignGetObject(presignRequest).url().toString();
+        PresignedGetObjectRequest presigned = s3Presigner.presignGetObject(presignRequest);
+        return new PresignedUrl(presigned.url().toString(), presigned.expiration());
     }
 }
@@ -2,13 +2,14 @@ package com.sj.voicebook.member.service.impl;
 
 import com.sj.voicebook.global.exception.BusinessException;
 import com.sj.voicebook.global.exception.ErrorCode;
+import com.sj.voicebook.global.security.PasswordHasher;
 import com.sj.voicebook.member.domain.Member;
 import com.sj.voicebook.member.dto.application.CreateUserCommand;
 import com.sj.voicebook.member.repository.MemberRepository;
 import com.sj.voicebook.member.service.SignUpService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,41 +17,70 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 @Slf4j
 public class SignUpServiceImpl implements SignUpService {
+    private static final String EMAIL_CONSTRAINT = "unique_email";
+    private static final String NICKNAME_CONSTRAINT = "unique_nickname";
+
     private final MemberRepository memberRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final MemberDuplicationFilter memberDuplicationFilter;
+    private final ProfileImageUploadService profileImageUploadService;
 
     @Override
     @Transactional
     public String signUp(CreateUserCommand command) {
-        // 이메일 중복 검사
-        if (checkEmailDuplication(command.email())) {
+        // 가입은 Bloom filter(노드별 동기화가 늦을 수 있음)를 거치지 않고 DB로 확인
+        if (memberRepository.existsByEmail(command.email())) {
             throw new BusinessException(ErrorCode.EMAIL_DUPLICATION);
         }
 
-        // 닉네임 중복 검사
-        if (checkNicknameDuplication(command.nickname())) {
+        if (memberRepository.existsByNickname(command.nickname())) {
             throw new BusinessException(ErrorCode.NICKNAME_DUPLICATION);
         }
 
+        // 직접 업로드한 프로필 이미지 확인 (중복 검사를 통과한 경우에만 사용 처리)
+        if (command.profileImage() != null) {
+            profileImageUploadService.claim(command.profileImage());
+        }
+
         Member member = Member.create(
                 command.email(),
-                passwordEncoder.encode(command.password()),
+                passwordHasher.encode(command.password()),
                 command.nickname(),
                 command.profileImage()
         );
-        Member saveMember = memberRepository.save(member);
+        Member saveMember = save(member);
+        memberDuplicationFilter.register(saveMember.getEmail(), saveMember.getNickname());
         return saveMember.getNickname() + "님 회원가입을 환영합니다!";
     }
 
+    /**
+     * 동시에 같은 이메일/닉네임으로 가입한 경우 unique 제약 위반을 중복 오류로 변환
+     */
+    private Member save(Member member) {
+        try {
+            return memberRepository.saveAndFlush(member);
+        } catch (DataIntegrityViolationException e) {
+            String message = e.getMostSpecificCause().getMessage();
+            if (message != null && message.contains(NICKNAME_CONSTRAINT)) {
+                throw new BusinessException(ErrorCode.NICKNAME_DUPLICATION);
+            }
+            if (message != null && message.contains(EMAIL_CONSTRAINT)) {
+                throw new BusinessException(ErrorCode.EMAIL_DUPLICATION);
+            }
+            throw e;
+        }
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Boolean checkEmailDuplication(String email) {
-        return memberRepository.existsByEmail(email);
+        // 필터에 없으면 DB 조회 생략
+        return memberDuplicationFilter.mightContainEmail(email) && memberRepository.existsByEmail(email);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Boolean checkNicknameDuplication(String nickname) {
-        return memberRepository.existsByNickname(nickname);
+        return memberDuplicationFilter.mightContainNickname(nickname) && memberRepository.existsByNickname(nickname);
     }
 }
@@ -0,0 +1,97 @@
+package com.sj.voicebook.recording.controller;
+
+import com.sj.voicebook.global.ApiResponse;
+import com.sj.voicebook.global.exception.BusinessException;
+import com.sj.voicebook.global.exception.ErrorCode;
+import com.sj.voicebook.recording.dto.api.CreateRecordingUploadRequest;
+import com.sj.voicebook.recording.dto.api.RecordingResponse;
+import com.sj.voicebook.recording.dto.api.RecordingUploadResponse;
+import com.sj.voicebook.recording.service.RecordingUploadService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 녹음 이어 올리기
+ * 1. POST /uploads 로 세션 생성
+ * 2. PATCH /uploads/{uploadId} 에 Upload-Offset 헤더와 raw bytes로 chunk 전송 (여러 번)
+ * 3. 연결이 끊기면 GET /uploads/{uploadId} 로 offset을 조회해 그 위치부터 다시 전송
+ * 4. POST /uploads/{uploadId}/complete 로 완료
+ */
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+@RequestMapping("/api/recordings/uploads")
+public class RecordingUploadController {
+    private static final String UPLOAD_OFFSET_HEADER = "Upload-Offset";
+
+    private final RecordingUploadService recordingUploadService;
+
+    @PostMapping
+    public ResponseEntity<ApiResponse<RecordingUploadResponse>> create(
+            @AuthenticationPrincipal Long userId,
+            @Valid @RequestBody CreateRecordingUploadRequest request) {
+        RecordingUploadResponse response = recordingUploadService.create(userId, request.contentType());
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success(response, "업로드 세션이 생성되었습니다."));
+    }
+
+    @GetMapping("/{uploadId}")
+    public ResponseEntity<ApiResponse<RecordingUploadResponse>> getOffset(
+            @AuthenticationPrincipal Long userId,
+            @PathVariable String uploadId) {
+        RecordingUploadResponse response = recordingUploadService.getOffset(userId, uploadId);
+        return ResponseEntity.ok()
+                .header(UPLOAD_OFFSET_HEADER, String.valueOf(response.offset()))
+                .body(ApiResponse.success(response));
+    }
+
+    @PatchMapping("/{uploadId}")
+    public ResponseEntity<ApiResponse<RecordingUploadResponse>> append(
+            @AuthenticationPrincipal Long userId,
+            @PathVariable String uploadId,
+            @RequestHeader(UPLOAD_OFFSET_HEADER) long offset,
+            HttpServletRequest request) {
+        try (InputStream body = request.getInputStream()) {
+            RecordingUploadResponse response = recordingUploadService.append(userId, uploadId, offset, body);
+            return ResponseEntity.ok()
+                    .header(UPLOAD_OFFSET_HEADER, String.valueOf(response.offset()))
+                    .body(ApiResponse.success(response));
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED);
+        }
+    }
+
+    @PostMapping("/{uploadId}/complete")
+    public ResponseEntity<ApiResponse<RecordingResponse>> complete(
+            @AuthenticationPrincipal Long userId,
+            @PathVariable String uploadId) {
+        RecordingResponse response = recordingUploadService.complete(userId, uploadId);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success(response, "녹음 업로드가 완료되었습니다."));
+    }
+
+    @DeleteMapping("/{uploadId}")
+    public ResponseEntity<ApiResponse<Void>> abort(
+            @AuthenticationPrincipal Long userId,
+            @PathVariable String uploadId) {
+        recordingUploadService.abort(userId, uploadId);
+        return ResponseEntity.ok(ApiResponse.success("업로드가 취소되었습니다."));
+    }
+}
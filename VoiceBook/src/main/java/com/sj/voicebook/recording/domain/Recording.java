@@ -0,0 +1,86 @@
+package com.sj.voicebook.recording.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 업로드가 끝난 음성 녹음
+ */
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@EntityListeners(AuditingEntityListener.class)
+@Table(
+        name = "recordings",
+        indexes = @Index(name = "idx_recordings_user_id", columnList = "userId")
+)
+public class Recording {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private String objectKey;
+
+    @Column(nullable = false, length = 100)
+    private String contentType;
+
+    @Column(nullable = false)
+    private long size;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private RecordingStatus status = RecordingStatus.UPLOADED;
+
+    // 무음 제거/변환된 음성 인식용 오디오
+    private String processedKey;
+
+    private Long processedSize;
+
+    private Long durationMs;
+
+    private Long processedDurationMs;
+
+    // 변환 오디오 시각 -> 원본 시각 구간 목록 (JSON)
+    @Column(columnDefinition = "text")
+    private String timestampMap;
+
+    @CreatedDate
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+
+    private Recording(Long userId, String objectKey, String contentType, long size) {
+        this.userId = userId;
+        this.objectKey = objectKey;
+        this.contentType = contentType;
+        this.size = size;
+    }
+
+    public static Recording create(Long userId, String objectKey, String contentType, long size) {
+        return new Recording(userId, objectKey, contentType, size);
+    }
+
+    public void markProcessed(String processedKey, long processedSize, long durationMs,
+                              long processedDurationMs, String timestampMap) {
+        this.processedKey = processedKey;
+        this.processedSize = processedSize;
+        this.durationMs = durationMs;
+        this.processedDurationMs = processedDurationMs;
+        this.timestampMap = timestampMap;
+        this.status = RecordingStatus.PROCESSED;
+    }
+
+    public void markUnprocessed() {
+        this.status = RecordingStatus.UNPROCESSED;
+    }
+}
@@ -0,0 +1,14 @@
+package com.sj.voicebook.recording.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum RecordingStatus {
+    UPLOADED("업로드 완료"),
+    PROCESSED("변환 완료"),
+    UNPROCESSED("변환 불가");
+
+    private final String description;
+}
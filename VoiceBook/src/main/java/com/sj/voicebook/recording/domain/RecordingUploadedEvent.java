@@ -0,0 +1,7 @@
+package com.sj.voicebook.recording.domain;
+
+/**
+ * 녹음 업로드 완료 이벤트 - 무음 제거/변환을 시작한다.
+ */
+public record RecordingUploadedEvent(Long recordingId) {
+}
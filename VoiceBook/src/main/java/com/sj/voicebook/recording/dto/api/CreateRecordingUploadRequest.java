@@ -0,0 +1,11 @@
+package com.sj.voicebook.recording.dto.api;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+
+public record CreateRecordingUploadRequest(
+        @NotBlank(message = "Content-Type은 필수입니다")
+        @Pattern(regexp = "^audio/.+", message = "음성 파일만 업로드할 수 있습니다")
+        String contentType
+) {
+}
@@ -0,0 +1,4 @@
+package com.sj.voicebook.recording.dto.api;
+
+public record RecordingResponse(Long recordingId, String key, long size) {
+}
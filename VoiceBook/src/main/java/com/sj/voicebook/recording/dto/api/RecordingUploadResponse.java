@@ -0,0 +1,7 @@
+package com.sj.voicebook.recording.dto.api;
+
+/**
+ * 업로드 세션 상태 - offset은 서버가 저장한 바이트 수, 다음 chunk는 이 위치부터 보낸다.
+ */
+public record RecordingUploadResponse(String uploadId, long offset) {
+}
@@ -0,0 +1,7 @@
+package com.sj.voicebook.recording.dto.application;
+
+/**
+ * 무음 제거/변환 결과 - audio는 16kHz mono Ogg Opus
+ */
+public record ProcessedAudio(byte[] audio, TimestampMap timestampMap, long originalDurationMs, long processedDurationMs) {
+}
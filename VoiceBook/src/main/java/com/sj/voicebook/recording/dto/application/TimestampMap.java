@@ -0,0 +1,25 @@
+package com.sj.voicebook.recording.dto.application;
+
+import java.util.List;
+
+/**
+ * 변환된 오디오 시각 -> 원본 오디오 시각 변환표
+ * 전사 결과의 타임스탬프를 원본 녹음 위치에 맞출 때 사용한다.
+ */
+public record TimestampMap(List<TimestampSegment> segments) {
+
+    public long toOriginalMs(long processedMs) {
+        TimestampSegment matched = null;
+        for (TimestampSegment segment : segments) {
+            if (segment.processedStartMs() > processedMs) {
+                break;
+            }
+            matched = segment;
+        }
+        if (matched == null) {
+            return processedMs;
+        }
+        long offset = Math.min(processedMs - matched.processedStartMs(), matched.durationMs());
+        return matched.originalStartMs() + offset;
+    }
+}
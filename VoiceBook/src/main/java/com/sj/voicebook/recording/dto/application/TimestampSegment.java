@@ -0,0 +1,7 @@
+package com.sj.voicebook.recording.dto.application;
+
+/**
+ * 무음 제거 후 남은 구간 - 변환된 오디오의 processedStartMs 부터 durationMs 동안은 원본의 originalStartMs 부터와 같다.
+ */
+public record TimestampSegment(long processedStartMs, long originalStartMs, long durationMs) {
+}
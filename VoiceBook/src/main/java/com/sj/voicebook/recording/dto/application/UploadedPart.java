@@ -0,0 +1,7 @@
+package com.sj.voicebook.recording.dto.application;
+
+/**
+ * S3에 전송이 끝난 multipart part
+ */
+public record UploadedPart(int partNumber, String eTag, String checksum, long size) {
+}
@@ -0,0 +1,34 @@
+package com.sj.voicebook.recording.repository;
+
+import com.sj.voicebook.recording.domain.Recording;
+import com.sj.voicebook.recording.domain.RecordingStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface RecordingRepository extends JpaRepository<Recording, Long> {
+
+    /**
+     * before 이전에 업로드되어 아직 status인 녹음 id - 오래된 순
+     */
+    @Query("SELECT r.id FROM Recording r WHERE r.status = :status AND r.createdAt < :before ORDER BY r.id")
+    List<Long> findIdsByStatusCreatedBefore(@Param("status") RecordingStatus status,
+                                            @Param("before") LocalDateTime before,
+                                            Pageable pageable);
+
+    /**
+     * before 이전에 업로드되어 아직 from인 녹음을 to로 변경
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Recording r SET r.status = :to WHERE r.status = :from AND r.createdAt < :before")
+    int updateStatusCreatedBefore(@Param("from") RecordingStatus from,
+                                  @Param("to") RecordingStatus to,
+                                  @Param("before") LocalDateTime before);
+}
@@ -0,0 +1,192 @@
+package com.sj.voicebook.recording.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.sound.sampled.UnsupportedAudioFileException;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ffmpeg 프로세스로 오디오 디코딩/인코딩
+ * - 디코딩: WAV, M4A(AAC), WebM/Ogg(Opus), MP3 등 ffmpeg가 읽는 형식을 16kHz mono 16bit PCM으로 변환
+ * - 인코딩: 16kHz mono PCM을 Ogg Opus(음성 모드)로 압축
+ * 실행 노드에 libopus가 포함된 ffmpeg가 있어야 한다.
+ */
+@Slf4j
+@Component
+public class FfmpegAudioCodec {
+
+    private static final int ERROR_TAIL_BYTES = 2048;
+
+    private final String ffmpegPath;
+    private final int opusBitrateKbps;
+    private final Duration timeout;
+
+    public FfmpegAudioCodec(
+            @Value("${recording.processing.ffmpeg-path:ffmpeg}") String ffmpegPath,
+            @Value("${recording.processing.opus-bitrate-kbps:24}") int opusBitrateKbps,
+            @Value("${recording.processing.ffmpeg-timeout:5m}") Duration timeout
+    ) {
+        this.ffmpegPath = ffmpegPath;
+        this.opusBitrateKbps = opusBitrateKbps;
+        this.timeout = timeout;
+    }
+
+    /**
+     * 원본을 sampleRate Hz mono 16bit PCM 샘플로 디코딩
+     * M4A는 moov atom이 파일 끝에 있을 수 있어 파이프가 아닌 임시 파일로 넘긴다.
+     *
+     * @throws UnsupportedAudioFileException ffmpeg가 읽을 수 없는 입력
+     */
+    public short[] decode(InputStream in, int sampleRate) throws IOException, UnsupportedAudioFileException {
+        Path source = Files.createTempFile("recording-", ".src");
+        try {
+            Files.copy(in, source, StandardCopyOption.REPLACE_EXISTING);
+            byte[] pcm;
+            try {
+                pcm = run(List.of(ffmpegPath, "-hide_banner", "-loglevel", "error", "-nostdin",
+                        "-i", source.toString(), "-vn", "-ac", "1", "-ar", String.valueOf(sampleRate),
+                        "-f", "s16le", "-acodec", "pcm_s16le", "pipe:1"), null);
+            } catch (FfmpegFailedException e) {
+                throw new UnsupportedAudioFileException(e.getMessage());
+            }
+
+            short[] samples = new short[pcm.length / 2];
+            ByteBuffer.wrap(pcm).order(ByteOrder.LITTLE_ENDIAN).asShortBuffer().get(samples);
+            return samples;
+        } finally {
+            Files.deleteIfExists(source);
+        }
+    }
+
+    /**
+     * sampleRate Hz mono 16bit PCM 샘플 앞쪽 length개를 Ogg Opus로 인코딩
+     */
+    public byte[] encodeOpus(short[] samples, int length, int sampleRate) throws IOException {
+        ByteBuffer pcm = ByteBuffer.allocate(length * 2).order(ByteOrder.LITTLE_ENDIAN);
+        pcm.asShortBuffer().put(samples, 0, length);
+        return run(List.of(ffmpegPath, "-hide_banner", "-loglevel", "error",
+                "-f", "s16le", "-ar", String.valueOf(sampleRate), "-ac", "1", "-i", "pipe:0",
+                "-c:a", "libopus", "-b:a", opusBitrateKbps + "k", "-application", "voip",
+                "-f", "ogg", "pipe:1"), pcm.array());
+    }
+
+    /**
+     * ffmpeg 실행 - stdin 쓰기와 stdout/stderr 읽기는 별도 스레드에서 해 파이프가 가득 차 멈추지 않게 하고,
+     * 호출 스레드는 timeout 까지만 기다린다. 시간을 넘기면 프로세스를 종료해 출력 스트림도 닫히게 한다.
+     */
+    private byte[] run(List<String> command, byte[] input) throws IOException {
+        Process process = new ProcessBuilder(command).start();
+        ErrorTail errorTail = new ErrorTail(process.getErrorStream());
+        Output output = new Output(process.getInputStream());
+        Thread errorReader = Thread.ofVirtual().start(errorTail);
+        Thread outputReader = Thread.ofVirtual().start(output);
+        Thread writer = Thread.ofVirtual().start(() -> {
+            try (OutputStream stdin = process.getOutputStream()) {
+                if (input != null) {
+                    new ByteArrayInputStream(input).transferTo(stdin);
+                }
+            } catch (IOException e) {
+                // ffmpeg가 입력을 다 읽기 전에 끝남 - 종료 코드로 판단
+            }
+        });
+
+        try {
+            if (!process.waitFor(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                process.destroyForcibly();
+                throw new IOException("ffmpeg timed out after " + timeout);
+            }
+            // 프로세스가 끝나면 파이프가 닫히므로 읽기 스레드도 곧 끝난다.
+            writer.join();
+            outputReader.join();
+            errorReader.join();
+            byte[] bytes = output.bytes();
+            if (process.exitValue() != 0 || bytes.length == 0) {
+                throw new FfmpegFailedException("ffmpeg exited with " + process.exitValue() + ": " + errorTail.text());
+            }
+            return bytes;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            process.destroyForcibly();
+            throw new IOException("Interrupted while running ffmpeg", e);
+        }
+    }
+
+    /**
+     * ffmpeg 출력 전체를 보관
+     */
+    private static class Output implements Runnable {
+
+        private final InputStream stdout;
+        private volatile byte[] bytes = new byte[0];
+        private volatile IOException failure;
+
+        Output(InputStream stdout) {
+            this.stdout = stdout;
+        }
+
+        @Override
+        public void run() {
+            try (stdout) {
+                bytes = stdout.readAllBytes();
+            } catch (IOException e) {
+                failure = e;
+            }
+        }
+
+        byte[] bytes() throws IOException {
+            if (failure != null) {
+                throw failure;
+            }
+            return bytes;
+        }
+    }
+
+    /**
+     * ffmpeg 오류 메시지의 마지막 부분만 보관
+     */
+    private static class ErrorTail implements Runnable {
+
+        private final InputStream stderr;
+        private volatile byte[] tail = new byte[0];
+
+        ErrorTail(InputStream stderr) {
+            this.stderr = stderr;
+        }
+
+        @Override
+        public void run() {
+            try (stderr) {
+                byte[] all = stderr.readAllBytes();
+                tail = Arrays.copyOfRange(all, Math.max(0, all.length - ERROR_TAIL_BYTES), all.length);
+            } catch (IOException e) {
+                log.debug("Failed to read ffmpeg stderr", e);
+            }
+        }
+
+        String text() {
+            return new String(tail, StandardCharsets.UTF_8).trim();
+        }
+    }
+
+    private static class FfmpegFailedException extends IOException {
+
+        FfmpegFailedException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.sj.voicebook.recording.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sj.voicebook.recording.domain.Recording;
+import com.sj.voicebook.recording.domain.RecordingStatus;
+import com.sj.voicebook.recording.domain.RecordingUploadedEvent;
+import com.sj.voicebook.recording.dto.application.ProcessedAudio;
+import com.sj.voicebook.recording.repository.RecordingRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+import javax.sound.sampled.UnsupportedAudioFileException;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 업로드된 녹음을 음성 인식용 오디오로 변환해 저장
+ * 원본은 그대로 두고 {objectKey}.speech.opus 에 변환본을 저장하며, 줄어든 바이트 수를 녹음별로 기록한다.
+ * 대기열 포화나 S3/ffmpeg 오류로 UPLOADED에 남은 녹음은 주기적으로 다시 변환하고,
+ * give-up-after 가 지나도 변환하지 못하면 UNPROCESSED로 바꿔 원본을 사용한다.
+ */
+@Slf4j
+@Service
+public class RecordingProcessingService {
+
+    public static final String PROCESSED_CONTENT_TYPE = "audio/ogg";
+    private static final String PROCESSED_SUFFIX = ".speech.opus";
+    private static final int RETRY_BATCH_SIZE = 100;
+
+    private final S3Client s3Client;
+    private final RecordingRepository recordingRepository;
+    private final SpeechAudioProcessor speechAudioProcessor;
+    private final ThreadPoolTaskExecutor audioProcessingExecutor;
+    private final ObjectMapper objectMapper;
+    private final String bucketName;
+    private final Duration retryAfter;
+    private final Duration giveUpAfter;
+
+    private final DistributionSummary reductionSummary;
+    private final Counter savedBytesCounter;
+    private final Counter processedCounter;
+    private final Counter skippedCounter;
+    private final Counter retriedCounter;
+    private final Counter abandonedCounter;
+
+    public RecordingProcessingService(
+            S3Client s3Client,
+            RecordingRepository recordingRepository,
+            SpeechAudioProcessor speechAudioProcessor,
+            @Qualifier("audioProcessingExecutor") ThreadPoolTaskExecutor audioProcessingExecutor,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${recording.upload.bucket:${spring.cloud.aws.s3.bucket}}") String bucketName,
+            @Value("${recording.processing.retry-after:10m}") Duration retryAfter,
+            @Value("${recording.processing.give-up-after:6h}") Duration giveUpAfter
+    ) {
+        this.s3Client = s3Client;
+        this.recordingRepository = recordingRepository;
+        this.speechAudioProcessor = speechAudioProcessor;
+        this.audioProcessingExecutor = audioProcessingExecutor;
+        this.objectMapper = objectMapper;
+        this.bucketName = bucketName;
+        this.retryAfter = retryAfter;
+        this.giveUpAfter = giveUpAfter;
+        this.reductionSummary = DistributionSummary.builder("recording.processing.byte.reduction")
+                .description("원본 대비 변환 오디오 크기 감소율(%)")
+                .baseUnit("percent")
+                .register(meterRegistry);
+        this.savedBytesCounter = meterRegistry.counter("recording.processing.saved.bytes");
+        this.processedCounter = meterRegistry.counter("recording.processing", "result", "processed");
+        this.skippedCounter = meterRegistry.counter("recording.processing", "result", "skipped");
+        this.retriedCounter = meterRegistry.counter("recording.processing", "result", "retried");
+        this.abandonedCounter = meterRegistry.counter("recording.processing", "result", "abandoned");
+    }
+
+    /**
+     * 업로드 완료 응답을 막지 않도록 executor에 넘긴다.
+     * 대기열이 가득 차 건너뛴 녹음은 UPLOADED 상태로 남아 retryPending에서 다시 변환한다.
+     */
+    @EventListener
+    public void onRecordingUploaded(RecordingUploadedEvent event) {
+        try {
+            audioProcessingExecutor.execute(() -> process(event.recordingId()));
+        } catch (TaskRejectedException e) {
+            skippedCounter.increment();
+            log.warn("Recording processing skipped: {}", event.recordingId());
+        }
+    }
+
+    /**
+     * retry-after 넘게 UPLOADED로 남은 녹음을 다시 변환 대기열에 넣는다.
+     * give-up-after 가 지난 녹음은 UNPROCESSED로 바꿔 더 기다리지 않고 원본을 음성 인식에 사용한다.
+     * retry-after는 ffmpeg-timeout보다 길어야 변환 중인 녹음을 다시 넣지 않는다.
+     */
+    @Scheduled(fixedDelayString = "${recording.processing.retry-interval-ms:300000}")
+    public void retryPending() {
+        LocalDateTime now = LocalDateTime.now();
+        int abandoned = recordingRepository.updateStatusCreatedBefore(
+                RecordingStatus.UPLOADED, RecordingStatus.UNPROCESSED, now.minus(giveUpAfter));
+        if (abandoned > 0) {
+            abandonedCounter.increment(abandoned);
+            log.warn("Gave up processing {} recordings, using originals", abandoned);
+        }
+
+        List<Long> pending = recordingRepository.findIdsByStatusCreatedBefore(
+                RecordingStatus.UPLOADED, now.minus(retryAfter), PageRequest.of(0, RETRY_BATCH_SIZE));
+        for (Long recordingId : pending) {
+            try {
+                audioProcessingExecutor.execute(() -> process(recordingId));
+                retriedCounter.increment();
+            } catch (TaskRejectedException e) {
+                // 대기열이 가득 참 - 다음 주기에 다시 시도
+                return;
+            }
+        }
+    }
+
+    void process(Long recordingId) {
+        Recording recording = recordingRepository.findById(recordingId).orElse(null);
+        if (recording == null || recording.getStatus() != RecordingStatus.UPLOADED) {
+            return;
+        }
+
+        ProcessedAudio processed;
+        try (ResponseInputStream<GetObjectResponse> in = s3Client.getObject(GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(recording.getObjectKey())
+                .build())) {
+            processed = speechAudioProcessor.process(in);
+        } catch (UnsupportedAudioFileException e) {
+            // 오디오로 읽을 수 없는 파일은 원본을 그대로 사용
+            log.info("Recording {} kept as original ({}): {}", recordingId, recording.getContentType(), e.getMessage());
+            recording.markUnprocessed();
+            recordingRepository.save(recording);
+            skippedCounter.increment();
+            return;
+        } catch (IOException | SdkException e) {
+            log.error("Failed to process recording: {}", recordingId, e);
+            skippedCounter.increment();
+            return;
+        }
+
+        String processedKey = recording.getObjectKey() + PROCESSED_SUFFIX;
+        try {
+            s3Client.putObject(PutObjectRequest.builder()
+                            .bucket(bucketName)
+                            .key(processedKey)
+                            .contentType(PROCESSED_CONTENT_TYPE)
+                            .build(),
+                    RequestBody.fromBytes(processed.audio()));
+            recording.markProcessed(processedKey, processed.audio().length, processed.originalDurationMs(),
+                    processed.processedDurationMs(), objectMapper.writeValueAsString(processed.timestampMap()));
+        } catch (SdkException | JsonProcessingException e) {
+            log.error("Failed to store processed recording: {}", recordingId, e);
+            skippedCounter.increment();
+            return;
+        }
+        recordingRepository.save(recording);
+
+        long saved = recording.getSize() - processed.audio().length;
+        double reduction = recording.getSize() == 0 ? 0 : saved * 100.0 / recording.getSize();
+        reductionSummary.record(reduction);
+        savedBytesCounter.increment(Math.max(saved, 0));
+        processedCounter.increment();
+        log.info("Recording {} processed: {} -> {} bytes ({}% smaller), {}ms -> {}ms",
+                recordingId, recording.getSize(), processed.audio().length, Math.round(reduction),
+                processed.originalDurationMs(), processed.processedDurationMs());
+    }
+}
@@ -0,0 +1,470 @@
+package com.sj.voicebook.recording.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sj.voicebook.global.exception.BusinessException;
+import com.sj.voicebook.global.exception.ErrorCode;
+import com.sj.voicebook.recording.domain.Recording;
+import com.sj.voicebook.recording.domain.RecordingUploadedEvent;
+import com.sj.voicebook.recording.dto.api.RecordingResponse;
+import com.sj.voicebook.recording.dto.api.RecordingUploadResponse;
+import com.sj.voicebook.recording.dto.application.UploadedPart;
+import com.sj.voicebook.recording.repository.RecordingRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.ListMultipartUploadsRequest;
+import software.amazon.awssdk.services.s3.model.MultipartUpload;
+import software.amazon.awssdk.services.s3.model.NoSuchUploadException;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 이어 올리기가 가능한 녹음 업로드
+ * - 세션 상태(S3 multipart upload id, 전송된 part 목록)는 Redis hash에, 아직 part가 되지 않은 tail 바이트는 별도 키에 보관한다.
+ * - chunk에서 새로 받은 바이트만 tail에 APPEND 하고, part 크기가 찰 때만 tail을 읽어 S3 part로 전송한다.
+ * - part 목록 갱신과 tail 비우기는 Lua 스크립트 하나로 반영하므로 offset(= part 바이트 합 + tail 길이)은 항상 실제 저장된 바이트 수와 같다.
+ * - 연결이 끊겨도 그때까지 받은 바이트는 저장하므로, 클라이언트는 offset을 조회해 빠진 부분만 다시 보내면 된다.
+ * - 세션 잠금은 요청마다 다른 토큰으로 잡고, 쓰기와 해제는 토큰이 일치할 때만 한다.
+ * - 세션이 만료된 S3 multipart upload는 sweeper가 abort 한다.
+ */
+@Slf4j
+@Service
+public class RecordingUploadService {
+
+    private static final String SESSION_PREFIX = "recording:upload:";
+    private static final String LOCK_SUFFIX = ":lock";
+    private static final String TAIL_SUFFIX = ":tail";
+    // S3 upload id -> 마지막 활동 시각(ms), 만료된 multipart upload 판별용
+    private static final String ACTIVE_UPLOADS_KEY = "recording:upload:active";
+    private static final String OBJECT_KEY_PREFIX = "recordings/";
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/redis/release-lock.lua"), Long.class);
+    private static final RedisScript<Long> APPEND_TAIL_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/redis/append-upload-tail.lua"), Long.class);
+    private static final RedisScript<Long> COMMIT_PART_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/redis/commit-upload-part.lua"), Long.class);
+    private static final TypeReference<List<UploadedPart>> PARTS_TYPE = new TypeReference<>() {
+    };
+
+    private final S3Client s3Client;
+    private final RedisTemplate<String, byte[]> binaryRedisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RecordingRepository recordingRepository;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final String bucketName;
+    private final int partSize;
+    private final long maxSize;
+    private final Duration sessionTtl;
+    private final Duration lockTimeout;
+
+    public RecordingUploadService(
+            S3Client s3Client,
+            @Qualifier("binaryRedisTemplate") RedisTemplate<String, byte[]> binaryRedisTemplate,
+            StringRedisTemplate stringRedisTemplate,
+            RecordingRepository recordingRepository,
+            ObjectMapper objectMapper,
+            ApplicationEventPublisher applicationEventPublisher,
+            @Value("${recording.upload.bucket:${spring.cloud.aws.s3.bucket}}") String bucketName,
+            @Value("${recording.upload.part-size:5MB}") DataSize partSize,
+            @Value("${recording.upload.max-size:200MB}") DataSize maxSize,
+            @Value("${recording.upload.session-ttl:24h}") Duration sessionTtl,
+            @Value("${recording.upload.lock-timeout:10m}") Duration lockTimeout
+    ) {
+        this.s3Client = s3Client;
+        this.binaryRedisTemplate = binaryRedisTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.recordingRepository = recordingRepository;
+        this.objectMapper = objectMapper;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.bucketName = bucketName;
+        this.partSize = Math.toIntExact(partSize.toBytes());
+        this.maxSize = maxSize.toBytes();
+        this.sessionTtl = sessionTtl;
+        this.lockTimeout = lockTimeout;
+    }
+
+    /**
+     * 업로드 세션 생성
+     */
+    public RecordingUploadResponse create(Long userId, String contentType) {
+        String objectKey = OBJECT_KEY_PREFIX + userId + "/" + UUID.randomUUID();
+        String s3UploadId;
+        try {
+            s3UploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(objectKey)
+                    .contentType(contentType)
+                    .checksumAlgorithm(ChecksumAlgorithm.SHA256)
+                    .build()).uploadId();
+        } catch (SdkException e) {
+            log.error("Failed to start recording upload for user: {}", userId, e);
+            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED);
+        }
+
+        String uploadId = UUID.randomUUID().toString();
+        Map<String, byte[]> fields = new HashMap<>();
+        fields.put("userId", bytes(String.valueOf(userId)));
+        fields.put("objectKey", bytes(objectKey));
+        fields.put("s3UploadId", bytes(s3UploadId));
+        fields.put("contentType", bytes(contentType));
+        fields.put("parts", bytes("[]"));
+        fields.put("partsBytes", bytes("0"));
+        hash().putAll(SESSION_PREFIX + uploadId, fields);
+        binaryRedisTemplate.expire(SESSION_PREFIX + uploadId, sessionTtl);
+        touch(s3UploadId);
+
+        return new RecordingUploadResponse(uploadId, 0);
+    }
+
+    /**
+     * 현재 저장된 바이트 수 조회
+     */
+    public RecordingUploadResponse getOffset(Long userId, String uploadId) {
+        UploadSession session = load(userId, uploadId);
+        return new RecordingUploadResponse(uploadId, session.offset());
+    }
+
+    /**
+     * offset 위치에 chunk 이어 붙이기 - offset이 현재 저장 위치와 다르면 UPLOAD_OFFSET_MISMATCH
+     */
+    public RecordingUploadResponse append(Long userId, String uploadId, long offset, InputStream in) {
+        String sessionKey = SESSION_PREFIX + uploadId;
+        String lockToken = lock(sessionKey);
+        try {
+            UploadSession session = load(userId, uploadId);
+            if (offset != session.offset()) {
+                throw new BusinessException(ErrorCode.UPLOAD_OFFSET_MISMATCH);
+            }
+
+            // buffer[0, start)는 Redis tail 자리 - part 크기가 찰 때만 읽어 온다.
+            byte[] buffer = new byte[partSize];
+            int start = session.tailLength();
+            int filled = start;
+            List<UploadedPart> parts = new ArrayList<>(session.parts());
+            long partsBytes = session.partsBytes();
+
+            try {
+                int read;
+                while ((read = in.read(buffer, filled, partSize - filled)) != -1) {
+                    filled += read;
+                    if (partsBytes + filled > maxSize) {
+                        throw new BusinessException(ErrorCode.FILE_SIZE_EXCEEDED);
+                    }
+                    if (filled == partSize) {
+                        readTail(sessionKey, buffer, start);
+                        parts.add(uploadPart(session, parts.size() + 1, buffer, filled));
+                        partsBytes += filled;
+                        commitPart(sessionKey, lockToken, parts, partsBytes);
+                        start = 0;
+                        filled = 0;
+                    }
+                }
+            } catch (IOException e) {
+                // 받은 데이터까지는 저장하고 클라이언트가 offset 조회 후 이어서 보내게 한다.
+                log.info("Recording chunk interrupted at {} bytes: {}", partsBytes + filled, uploadId);
+            }
+
+            // 이번 요청에서 새로 받은 바이트만 이어 붙인다.
+            appendTail(sessionKey, lockToken, Arrays.copyOfRange(buffer, start, filled));
+            touch(session.s3UploadId());
+            return new RecordingUploadResponse(uploadId, partsBytes + filled);
+        } finally {
+            unlock(sessionKey, lockToken);
+        }
+    }
+
+    /**
+     * 업로드 완료 - 남은 tail을 마지막 part로 보내고 S3 객체를 조립한 뒤 녹음을 등록
+     */
+    public RecordingResponse complete(Long userId, String uploadId) {
+        String sessionKey = SESSION_PREFIX + uploadId;
+        String lockToken = lock(sessionKey);
+        try {
+            UploadSession session = load(userId, uploadId);
+            List<UploadedPart> parts = new ArrayList<>(session.parts());
+            if (session.tailLength() > 0) {
+                byte[] tail = new byte[session.tailLength()];
+                readTail(sessionKey, tail, tail.length);
+                parts.add(uploadPart(session, parts.size() + 1, tail, tail.length));
+            }
+            if (parts.isEmpty()) {
+                throw new BusinessException(ErrorCode.INVALID_FILE);
+            }
+
+            List<CompletedPart> completedParts = parts.stream()
+                    .map(part -> CompletedPart.builder()
+                            .partNumber(part.partNumber())
+                            .eTag(part.eTag())
+                            .checksumSHA256(part.checksum())
+                            .build())
+                    .toList();
+            try {
+                s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                        .bucket(bucketName)
+                        .key(session.objectKey())
+                        .uploadId(session.s3UploadId())
+                        .multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build())
+                        .build());
+            } catch (SdkException e) {
+                log.error("Failed to complete recording upload: {}", uploadId, e);
+                throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED);
+            }
+
+            Recording recording = recordingRepository.save(
+                    Recording.create(userId, session.objectKey(), session.contentType(), session.offset()));
+            deleteSession(sessionKey, session.s3UploadId());
+            log.info("Recording uploaded: {} ({} bytes, {} parts)", session.objectKey(), session.offset(), parts.size());
+            applicationEventPublisher.publishEvent(new RecordingUploadedEvent(recording.getId()));
+            return new RecordingResponse(recording.getId(), recording.getObjectKey(), recording.getSize());
+        } finally {
+            unlock(sessionKey, lockToken);
+        }
+    }
+
+    /**
+     * 업로드 취소 - S3에 올라간 part도 함께 삭제
+     */
+    public void abort(Long userId, String uploadId) {
+        String sessionKey = SESSION_PREFIX + uploadId;
+        String lockToken = lock(sessionKey);
+        try {
+            UploadSession session = load(userId, uploadId);
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(session.objectKey())
+                    .uploadId(session.s3UploadId())
+                    .build());
+            deleteSession(sessionKey, session.s3UploadId());
+        } finally {
+            unlock(sessionKey, lockToken);
+        }
+    }
+
+    /**
+     * 세션이 만료되어 더 이상 이어 올 수 없는 S3 multipart upload abort
+     * session-ttl 넘게 활동이 없는 녹음 업로드만 대상이며, 여러 노드가 동시에 실행해도 abort는 한 번만 성공한다.
+     */
+    @Scheduled(fixedDelayString = "${recording.upload.sweep-interval-ms:3600000}")
+    public void abortExpiredUploads() {
+        long deadline = System.currentTimeMillis() - sessionTtl.toMillis();
+        int aborted = 0;
+        try {
+            for (MultipartUpload upload : s3Client.listMultipartUploadsPaginator(ListMultipartUploadsRequest.builder()
+                            .bucket(bucketName)
+                            .prefix(OBJECT_KEY_PREFIX)
+                            .build())
+                    .uploads()) {
+                if (upload.initiated().toEpochMilli() > deadline) {
+                    continue;
+                }
+                Double lastActivity = stringRedisTemplate.opsForZSet().score(ACTIVE_UPLOADS_KEY, upload.uploadId());
+                if (lastActivity != null && lastActivity > deadline) {
+                    continue;
+                }
+                try {
+                    s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                            .bucket(bucketName)
+                            .key(upload.key())
+                            .uploadId(upload.uploadId())
+                            .build());
+                    aborted++;
+                } catch (NoSuchUploadException e) {
+                    // 다른 노드가 먼저 abort 함
+                }
+            }
+        } catch (SdkException e) {
+            log.error("Failed to sweep expired recording uploads", e);
+        }
+        stringRedisTemplate.opsForZSet().removeRangeByScore(ACTIVE_UPLOADS_KEY, 0, deadline);
+        if (aborted > 0) {
+            log.info("Aborted {} expired recording uploads", aborted);
+        }
+    }
+
+    private UploadedPart uploadPart(UploadSession session, int partNumber, byte[] buffer, int length) {
+        String checksum = sha256(buffer, length);
+        try {
+            UploadPartResponse response = s3Client.uploadPart(UploadPartRequest.builder()
+                            .bucket(bucketName)
+                            .key(session.objectKey())
+                            .uploadId(session.s3UploadId())
+                            .partNumber(partNumber)
+                            .contentLength((long) length)
+                            .checksumSHA256(checksum)
+                            .build(),
+                    RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, length), length));
+            return new UploadedPart(partNumber, response.eTag(), checksum, length);
+        } catch (SdkException e) {
+            // 이전 part까지는 저장되어 있으므로 클라이언트는 offset 조회 후 다시 보낸다.
+            log.error("Failed to upload part {} of {}", partNumber, session.objectKey(), e);
+            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED);
+        }
+    }
+
+    /**
+     * part 목록 갱신과 tail 비우기를 한 번에 반영 - 그 사이 잠금을 잃었으면 UPLOAD_IN_PROGRESS
+     */
+    private void commitPart(String sessionKey, String lockToken, List<UploadedPart> parts, long partsBytes) {
+        byte[] partsJson;
+        try {
+            partsJson = objectMapper.writeValueAsBytes(parts);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize upload parts", e);
+        }
+        Long result = binaryRedisTemplate.execute(COMMIT_PART_SCRIPT, sessionKeys(sessionKey),
+                bytes(lockToken), partsJson, bytes(String.valueOf(partsBytes)), bytes(String.valueOf(sessionTtl.toMillis())));
+        checkLockHeld(result, sessionKey);
+    }
+
+    private void appendTail(String sessionKey, String lockToken, byte[] received) {
+        Long result = binaryRedisTemplate.execute(APPEND_TAIL_SCRIPT, sessionKeys(sessionKey),
+                bytes(lockToken), received, bytes(String.valueOf(sessionTtl.toMillis())));
+        checkLockHeld(result, sessionKey);
+    }
+
+    /**
+     * 저장된 tail을 buffer 앞쪽에 채움
+     */
+    private void readTail(String sessionKey, byte[] buffer, int length) {
+        if (length == 0) {
+            return;
+        }
+        byte[] tail = binaryRedisTemplate.opsForValue().get(sessionKey + TAIL_SUFFIX);
+        if (tail == null || tail.length != length) {
+            throw new IllegalStateException("Upload tail changed while locked: " + sessionKey);
+        }
+        System.arraycopy(tail, 0, buffer, 0, length);
+    }
+
+    private void checkLockHeld(Long result, String sessionKey) {
+        if (result == null || result < 0) {
+            // lock-timeout이 지나 다른 요청이 세션을 잡았다 - 클라이언트는 offset을 다시 조회한다.
+            log.warn("Lost upload session lock: {}", sessionKey);
+            throw new BusinessException(ErrorCode.UPLOAD_IN_PROGRESS);
+        }
+    }
+
+    private List<String> sessionKeys(String sessionKey) {
+        return List.of(sessionKey + LOCK_SUFFIX, sessionKey, sessionKey + TAIL_SUFFIX);
+    }
+
+    private void touch(String s3UploadId) {
+        stringRedisTemplate.opsForZSet().add(ACTIVE_UPLOADS_KEY, s3UploadId, System.currentTimeMillis());
+    }
+
+    private void deleteSession(String sessionKey, String s3UploadId) {
+        binaryRedisTemplate.delete(List.of(sessionKey, sessionKey + TAIL_SUFFIX));
+        stringRedisTemplate.opsForZSet().remove(ACTIVE_UPLOADS_KEY, s3UploadId);
+    }
+
+    private UploadSession load(Long userId, String uploadId) {
+        Map<String, byte[]> fields = hash().entries(SESSION_PREFIX + uploadId);
+        // 다른 회원의 세션도 존재 여부를 드러내지 않는다.
+        if (fields.isEmpty() || !String.valueOf(userId).equals(string(fields.get("userId")))) {
+            throw new BusinessException(ErrorCode.UPLOAD_SESSION_NOT_FOUND);
+        }
+        Long tailLength = binaryRedisTemplate.opsForValue().size(SESSION_PREFIX + uploadId + TAIL_SUFFIX);
+        try {
+            return new UploadSession(
+                    string(fields.get("objectKey")),
+                    string(fields.get("s3UploadId")),
+                    string(fields.get("contentType")),
+                    objectMapper.readValue(fields.get("parts"), PARTS_TYPE),
+                    Long.parseLong(string(fields.get("partsBytes"))),
+                    tailLength == null ? 0 : Math.toIntExact(tailLength)
+            );
+        } catch (IOException e) {
+            throw new IllegalStateException("Corrupted upload session: " + uploadId, e);
+        }
+    }
+
+    /**
+     * 세션 잠금 - 이 요청만 아는 토큰을 반환한다.
+     */
+    private String lock(String sessionKey) {
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = stringRedisTemplate.opsForValue().setIfAbsent(sessionKey + LOCK_SUFFIX, token, lockTimeout);
+        if (!Boolean.TRUE.equals(acquired)) {
+            throw new BusinessException(ErrorCode.UPLOAD_IN_PROGRESS);
+        }
+        return token;
+    }
+
+    /**
+     * 토큰이 일치할 때만 해제 - lock-timeout이 지나 다른 요청이 잡은 잠금은 지우지 않는다.
+     */
+    private void unlock(String sessionKey, String lockToken) {
+        stringRedisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(sessionKey + LOCK_SUFFIX), lockToken);
+    }
+
+    private HashOperations<String, String, byte[]> hash() {
+        return binaryRedisTemplate.opsForHash();
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String string(byte[] value) {
+        return value == null ? null : new String(value, StandardCharsets.UTF_8);
+    }
+
+    private static String sha256(byte[] buffer, int length) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(buffer, 0, length);
+            return Base64.getEncoder().encodeToString(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm is not available", e);
+        }
+    }
+
+    private record UploadSession(
+            String objectKey,
+            String s3UploadId,
+            String contentType,
+            List<UploadedPart> parts,
+            long partsBytes,
+            int tailLength
+    ) {
+        long offset() {
+            return partsBytes + tailLength;
+        }
+    }
+}
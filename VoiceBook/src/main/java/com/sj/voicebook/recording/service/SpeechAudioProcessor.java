@@ -0,0 +1,171 @@
+package com.sj.voicebook.recording.service;
+
+import com.sj.voicebook.recording.dto.application.ProcessedAudio;
+import com.sj.voicebook.recording.dto.application.TimestampMap;
+import com.sj.voicebook.recording.dto.application.TimestampSegment;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.sound.sampled.UnsupportedAudioFileException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 녹음을 음성 인식용 오디오로 변환
+ * - 원본(WAV, M4A 등)을 ffmpeg로 mono 16kHz PCM으로 디코딩한다.
+ * - 20ms 프레임 에너지로 음성 구간을 찾아 앞/뒤 무음과 긴 중간 무음을 잘라낸다.
+ * - 결과는 Ogg Opus(음성 모드, 기본 24kbps)로 인코딩하고, 잘린 구간의 원본 시각을 TimestampMap으로 남긴다.
+ */
+@Component
+public class SpeechAudioProcessor {
+
+    static final int SAMPLE_RATE = 16_000;
+    private static final int FRAME_MS = 20;
+    private static final int FRAME_SAMPLES = SAMPLE_RATE * FRAME_MS / 1000;
+
+    private final FfmpegAudioCodec ffmpegAudioCodec;
+    private final int maxSilenceFrames;
+    private final int keepSilenceFrames;
+    private final int edgePaddingFrames;
+    private final int hangoverFrames;
+    private final double thresholdAboveNoiseDb;
+    private final double minThresholdDb;
+
+    public SpeechAudioProcessor(
+            FfmpegAudioCodec ffmpegAudioCodec,
+            @Value("${recording.processing.max-silence:700ms}") Duration maxSilence,
+            @Value("${recording.processing.keep-silence:300ms}") Duration keepSilence,
+            @Value("${recording.processing.edge-padding:100ms}") Duration edgePadding,
+            @Value("${recording.processing.hangover:200ms}") Duration hangover,
+            @Value("${recording.processing.threshold-above-noise-db:10}") double thresholdAboveNoiseDb,
+            @Value("${recording.processing.min-threshold-db:-55}") double minThresholdDb
+    ) {
+        this.ffmpegAudioCodec = ffmpegAudioCodec;
+        this.maxSilenceFrames = frames(maxSilence);
+        this.keepSilenceFrames = Math.min(frames(keepSilence), maxSilenceFrames);
+        this.edgePaddingFrames = frames(edgePadding);
+        this.hangoverFrames = frames(hangover);
+        this.thresholdAboveNoiseDb = thresholdAboveNoiseDb;
+        this.minThresholdDb = minThresholdDb;
+    }
+
+    /**
+     * @throws UnsupportedAudioFileException ffmpeg가 디코딩할 수 없는 입력 (오디오가 아니거나 손상된 파일)
+     */
+    public ProcessedAudio process(InputStream in) throws IOException, UnsupportedAudioFileException {
+        short[] samples = ffmpegAudioCodec.decode(in, SAMPLE_RATE);
+
+        List<int[]> keptFrames = keptFrameRanges(detectSpeech(samples));
+
+        List<TimestampSegment> segments = new ArrayList<>();
+        short[] output = new short[samples.length];
+        int written = 0;
+        for (int[] range : keptFrames) {
+            int start = range[0] * FRAME_SAMPLES;
+            int end = Math.min(range[1] * FRAME_SAMPLES, samples.length);
+            if (start >= end) {
+                continue;
+            }
+            segments.add(new TimestampSegment(millis(written), millis(start), millis(end - start)));
+            System.arraycopy(samples, start, output, written, end - start);
+            written += end - start;
+        }
+
+        return new ProcessedAudio(ffmpegAudioCodec.encodeOpus(output, written, SAMPLE_RATE), new TimestampMap(segments),
+                millis(samples.length), millis(written));
+    }
+
+    /**
+     * 프레임별 음성 여부
+     * 임계값은 녹음의 잡음 바닥(프레임 에너지 하위 10%) + thresholdAboveNoiseDb 이며,
+     * 음성 뒤 hangover 동안은 말끝이 잘리지 않도록 음성으로 본다.
+     */
+    private boolean[] detectSpeech(short[] samples) {
+        int frameCount = (samples.length + FRAME_SAMPLES - 1) / FRAME_SAMPLES;
+        double[] energyDb = new double[frameCount];
+        for (int frame = 0; frame < frameCount; frame++) {
+            int start = frame * FRAME_SAMPLES;
+            int end = Math.min(start + FRAME_SAMPLES, samples.length);
+            double sum = 0;
+            for (int i = start; i < end; i++) {
+                double normalized = samples[i] / 32768.0;
+                sum += normalized * normalized;
+            }
+            energyDb[frame] = 10 * Math.log10(sum / (end - start) + 1e-10);
+        }
+
+        boolean[] speech = new boolean[frameCount];
+        if (frameCount == 0) {
+            return speech;
+        }
+        double[] sorted = energyDb.clone();
+        Arrays.sort(sorted);
+        double threshold = Math.max(sorted[frameCount / 10] + thresholdAboveNoiseDb, minThresholdDb);
+
+        int hangover = 0;
+        for (int frame = 0; frame < frameCount; frame++) {
+            if (energyDb[frame] > threshold) {
+                speech[frame] = true;
+                hangover = hangoverFrames;
+            } else if (hangover > 0) {
+                speech[frame] = true;
+                hangover--;
+            }
+        }
+        return speech;
+    }
+
+    /**
+     * 남길 프레임 구간 [start, end)
+     * 앞/뒤 무음은 edgePadding만, keepSilence보다 긴 중간 무음은 양쪽 끝 keepSilence/2씩만 남긴다.
+     * 음성 구간을 찾지 못하면 아무것도 자르지 않는다.
+     */
+    private List<int[]> keptFrameRanges(boolean[] speech) {
+        int frameCount = speech.length;
+        int first = 0;
+        while (first < frameCount && !speech[first]) {
+            first++;
+        }
+        if (first == frameCount) {
+            return List.of(new int[]{0, frameCount});
+        }
+        int last = frameCount - 1;
+        while (!speech[last]) {
+            last--;
+        }
+
+        List<int[]> ranges = new ArrayList<>();
+        int rangeStart = Math.max(0, first - edgePaddingFrames);
+        int frame = first;
+        while (frame <= last) {
+            if (speech[frame]) {
+                frame++;
+                continue;
+            }
+            int silenceStart = frame;
+            while (!speech[frame]) {
+                frame++;
+            }
+            int silence = frame - silenceStart;
+            if (silence > maxSilenceFrames) {
+                int head = keepSilenceFrames / 2;
+                ranges.add(new int[]{rangeStart, silenceStart + head});
+                rangeStart = frame - (keepSilenceFrames - head);
+            }
+        }
+        ranges.add(new int[]{rangeStart, Math.min(frameCount, last + 1 + edgePaddingFrames)});
+        return ranges;
+    }
+
+    private static int frames(Duration duration) {
+        return (int) (duration.toMillis() / FRAME_MS);
+    }
+
+    private static long millis(int sampleCount) {
+        return sampleCount * 1000L / SAMPLE_RATE;
+    }
+}
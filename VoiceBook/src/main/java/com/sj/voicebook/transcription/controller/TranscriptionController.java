@@ -0,0 +1,57 @@
+package com.sj.voicebook.transcription.controller;
+
+import com.sj.voicebook.global.ApiResponse;
+import com.sj.voicebook.transcription.dto.api.CreateTranscriptionRequest;
+import com.sj.voicebook.transcription.dto.api.TranscriptionJobResponse;
+import com.sj.voicebook.transcription.service.TranscriptionService;
+import com.sj.voicebook.transcription.service.TranscriptionSubscriptions;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 음성 -> 텍스트 변환
+ * 1. POST / 로 작업 접수 (202)
+ * 2. GET /{jobId} 로 상태 조회(polling) 하거나 GET /{jobId}/events 로 상태 변경을 구독(SSE)
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/transcriptions")
+public class TranscriptionController {
+
+    private final TranscriptionService transcriptionService;
+    private final TranscriptionSubscriptions transcriptionSubscriptions;
+
+    @PostMapping
+    public ResponseEntity<ApiResponse<TranscriptionJobResponse>> submit(
+            @AuthenticationPrincipal Long userId,
+            @Valid @RequestBody CreateTranscriptionRequest request) {
+        TranscriptionJobResponse response = transcriptionService.submit(userId, request.recordingId(), request.priority());
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success(response, "변환 작업이 접수되었습니다."));
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ApiResponse<TranscriptionJobResponse>> get(
+            @AuthenticationPrincipal Long userId,
+            @PathVariable Long jobId) {
+        return ResponseEntity.ok(ApiResponse.success(transcriptionService.get(userId, jobId)));
+    }
+
+    @GetMapping(value = "/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(
+            @AuthenticationPrincipal Long userId,
+            @PathVariable Long jobId) {
+        return transcriptionSubscriptions.subscribe(userId, jobId);
+    }
+}
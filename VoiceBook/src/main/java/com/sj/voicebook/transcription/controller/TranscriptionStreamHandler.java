@@ -0,0 +1,193 @@
+package com.sj.voicebook.transcription.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sj.voicebook.global.jwt.JwtHandshakeInterceptor;
+import com.sj.voicebook.transcription.dto.api.StreamingTranscriptMessage;
+import com.sj.voicebook.transcription.dto.application.TranscriptSegment;
+import com.sj.voicebook.transcription.service.StreamingSttEngine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.BinaryWebSocketHandler;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 녹음 중 실시간 변환 (WebSocket /ws/transcriptions/stream)
+ * - 클라이언트는 16kHz mono PCM16 오디오를 binary 메시지로 보내고, 말이 끝나면 {"type":"end"} 를 보낸다.
+ * - 서버는 partial / final / completed / error 결과를 text(JSON) 메시지로 보낸다.
+ * 연결은 Tomcat NIO가 관리하므로 세션마다 스레드를 잡고 있지 않고, 메시지가 올 때만 처리 스레드를 잠시 쓴다.
+ * 결과 전송은 세션별 버퍼를 두어, 느린 클라이언트가 엔진 콜백 스레드를 막지 않게 한다.
+ */
+@Slf4j
+@Component
+public class TranscriptionStreamHandler extends BinaryWebSocketHandler {
+
+    private static final CloseStatus TOO_LONG = CloseStatus.POLICY_VIOLATION.withReason("Audio too long");
+
+    private final StreamingSttEngine streamingSttEngine;
+    private final ObjectMapper objectMapper;
+    private final int maxSessions;
+    private final long maxAudioBytes;
+    private final int sendTimeLimitMillis;
+    private final int sendBufferSizeLimit;
+
+    private final Map<String, Stream> streams = new ConcurrentHashMap<>();
+    private final AtomicInteger activeSessions = new AtomicInteger();
+
+    private final Counter rejectedCounter;
+
+    public TranscriptionStreamHandler(
+            StreamingSttEngine streamingSttEngine,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${transcription.streaming.max-sessions:5000}") int maxSessions,
+            @Value("${transcription.streaming.max-audio:10m}") Duration maxAudio,
+            @Value("${transcription.streaming.send-time-limit:5s}") Duration sendTimeLimit,
+            @Value("${transcription.streaming.send-buffer-size:256KB}") DataSize sendBufferSize
+    ) {
+        this.streamingSttEngine = streamingSttEngine;
+        this.objectMapper = objectMapper;
+        this.maxSessions = maxSessions;
+        // 16kHz * 2 bytes
+        this.maxAudioBytes = maxAudio.toMillis() * 32;
+        this.sendTimeLimitMillis = (int) sendTimeLimit.toMillis();
+        this.sendBufferSizeLimit = (int) sendBufferSize.toBytes();
+        this.rejectedCounter = meterRegistry.counter("transcription.streaming.rejected");
+        meterRegistry.gauge("transcription.streaming.sessions", activeSessions);
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws IOException {
+        if (activeSessions.incrementAndGet() > maxSessions) {
+            activeSessions.decrementAndGet();
+            rejectedCounter.increment();
+            session.close(CloseStatus.SERVICE_OVERLOAD);
+            return;
+        }
+
+        WebSocketSession out = new ConcurrentWebSocketSessionDecorator(session, sendTimeLimitMillis, sendBufferSizeLimit);
+        Stream stream = new Stream(out);
+        streams.put(session.getId(), stream);
+        stream.stt = streamingSttEngine.open(stream);
+        log.debug("Streaming transcription started (user: {})", session.getAttributes().get(JwtHandshakeInterceptor.USER_ID));
+    }
+
+    @Override
+    protected void handleBinaryMessage(WebSocketSession session, BinaryMessage message) throws IOException {
+        Stream stream = streams.get(session.getId());
+        if (stream == null) {
+            return;
+        }
+        stream.receivedBytes += message.getPayloadLength();
+        if (stream.receivedBytes > maxAudioBytes) {
+            session.close(TOO_LONG);
+            return;
+        }
+        stream.stt.accept(message.getPayload());
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) {
+        Stream stream = streams.get(session.getId());
+        if (stream == null) {
+            return;
+        }
+        try {
+            JsonNode command = objectMapper.readTree(message.getPayload());
+            if ("end".equals(command.path("type").asText())) {
+                stream.stt.finish();
+            }
+        } catch (JsonProcessingException e) {
+            stream.send(StreamingTranscriptMessage.error("Invalid message"));
+        }
+    }
+
+    @Override
+    public void handleTransportError(WebSocketSession session, Throwable exception) throws IOException {
+        log.debug("Streaming transcription transport error: {}", exception.getMessage());
+        session.close(CloseStatus.SERVER_ERROR);
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        Stream stream = streams.remove(session.getId());
+        if (stream == null) {
+            return;
+        }
+        activeSessions.decrementAndGet();
+        stream.stt.cancel();
+    }
+
+    /**
+     * 세션 하나의 상태 - 엔진 결과를 받아 클라이언트로 보낸다.
+     */
+    private class Stream implements StreamingSttEngine.Listener {
+
+        private final WebSocketSession out;
+        private StreamingSttEngine.Session stt;
+        // 같은 세션의 메시지는 순서대로 하나씩 처리되므로 동기화가 필요 없다.
+        private long receivedBytes;
+
+        Stream(WebSocketSession out) {
+            this.out = out;
+        }
+
+        @Override
+        public void onPartial(TranscriptSegment segment) {
+            send(StreamingTranscriptMessage.partial(segment));
+        }
+
+        @Override
+        public void onFinal(TranscriptSegment segment) {
+            send(StreamingTranscriptMessage.finalResult(segment));
+        }
+
+        @Override
+        public void onComplete() {
+            send(StreamingTranscriptMessage.completed());
+            close(CloseStatus.NORMAL);
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            log.error("Streaming STT engine error", error);
+            send(StreamingTranscriptMessage.error("Transcription failed"));
+            close(CloseStatus.SERVER_ERROR);
+        }
+
+        void send(StreamingTranscriptMessage message) {
+            if (!out.isOpen()) {
+                return;
+            }
+            try {
+                out.sendMessage(new TextMessage(objectMapper.writeValueAsString(message)));
+            } catch (IOException | RuntimeException e) {
+                // 전송 버퍼 초과(느린 클라이언트) 등 - decorator가 세션을 닫는다.
+                log.debug("Failed to send streaming transcript: {}", e.getMessage());
+            }
+        }
+
+        private void close(CloseStatus status) {
+            try {
+                out.close(status);
+            } catch (IOException e) {
+                log.debug("Failed to close streaming session: {}", e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.sj.voicebook.transcription.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 음성 -> 텍스트 변환 작업
+ * API 노드는 저장만 하고, 실제 변환은 TranscriptionWorker가 우선순위 순서로 가져가 처리한다.
+ */
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@EntityListeners(AuditingEntityListener.class)
+@Table(
+        name = "transcription_jobs",
+        indexes = {
+                @Index(name = "idx_transcription_jobs_status_priority", columnList = "status, priority, id"),
+                @Index(name = "idx_transcription_jobs_recording_id", columnList = "recordingId")
+        }
+)
+public class TranscriptionJob {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private Long recordingId;
+
+    // 정렬에 쓰이므로 ordinal로 저장 (INTERACTIVE = 0)
+    @Enumerated(EnumType.ORDINAL)
+    @Column(nullable = false)
+    private TranscriptionPriority priority;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private TranscriptionStatus status = TranscriptionStatus.QUEUED;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    private LocalDateTime lockedUntil;
+
+    @Column(columnDefinition = "text")
+    private String transcript;
+
+    // 원본 녹음 기준 구간별 텍스트 (JSON)
+    @Column(columnDefinition = "text")
+    private String segments;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @CreatedDate
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime completedAt;
+
+    private TranscriptionJob(Long userId, Long recordingId, TranscriptionPriority priority) {
+        this.userId = userId;
+        this.recordingId = recordingId;
+        this.priority = priority;
+    }
+
+    public static TranscriptionJob create(Long userId, Long recordingId, TranscriptionPriority priority) {
+        return new TranscriptionJob(userId, recordingId, priority);
+    }
+
+    /**
+     * 변환 시작 - lockedUntil 까지 다른 worker가 가져가지 않는다.
+     */
+    public void markRunning(LocalDateTime lockedUntil) {
+        this.status = TranscriptionStatus.RUNNING;
+        this.lockedUntil = lockedUntil;
+        this.attempts++;
+    }
+
+    /**
+     * 실행하지 못한 선점 작업을 시도 횟수 증가 없이 대기열로 되돌림
+     */
+    public void release() {
+        if (status != TranscriptionStatus.RUNNING) {
+            return;
+        }
+        this.status = TranscriptionStatus.QUEUED;
+        this.lockedUntil = null;
+        this.attempts--;
+    }
+
+    public void markCompleted(String transcript, String segments, LocalDateTime completedAt) {
+        this.status = TranscriptionStatus.COMPLETED;
+        this.transcript = transcript;
+        this.segments = segments;
+        this.completedAt = completedAt;
+        this.lockedUntil = null;
+        this.lastError = null;
+    }
+
+    /**
+     * 변환 실패 - 최대 시도 횟수를 넘으면 FAILED, 아니면 다시 대기열로
+     */
+    public void markFailed(String error, int maxAttempts, LocalDateTime now) {
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH
+                ? error.substring(0, MAX_ERROR_LENGTH)
+                : error;
+        this.lockedUntil = null;
+        if (attempts >= maxAttempts) {
+            this.status = TranscriptionStatus.FAILED;
+            this.completedAt = now;
+            return;
+        }
+        this.status = TranscriptionStatus.QUEUED;
+    }
+}
@@ -0,0 +1,16 @@
+package com.sj.voicebook.transcription.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 변환 우선순위 - 선언 순서(ordinal)가 곧 처리 순서다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TranscriptionPriority {
+    INTERACTIVE("면접 답변 등 사용자가 기다리는 변환"),
+    BACKFILL("재처리 등 배치 변환");
+
+    private final String description;
+}
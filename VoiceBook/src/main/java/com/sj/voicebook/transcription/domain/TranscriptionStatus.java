@@ -0,0 +1,19 @@
+package com.sj.voicebook.transcription.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum TranscriptionStatus {
+    QUEUED("대기"),
+    RUNNING("변환 중"),
+    COMPLETED("완료"),
+    FAILED("실패");
+
+    private final String description;
+
+    public boolean isTerminal() {
+        return this == COMPLETED || this == FAILED;
+    }
+}
@@ -0,0 +1,13 @@
+package com.sj.voicebook.transcription.dto.api;
+
+import com.sj.voicebook.transcription.domain.TranscriptionPriority;
+import jakarta.validation.constraints.NotNull;
+
+public record CreateTranscriptionRequest(
+        @NotNull(message = "녹음 ID는 필수입니다")
+        Long recordingId,
+
+        // 생략하면 INTERACTIVE
+        TranscriptionPriority priority
+) {
+}
@@ -0,0 +1,28 @@
+package com.sj.voicebook.transcription.dto.api;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.sj.voicebook.transcription.dto.application.TranscriptSegment;
+
+/**
+ * 실시간 변환 결과 메시지 (서버 -> 클라이언트)
+ * type: partial(중간 결과, 같은 startMs의 다음 메시지로 대체됨) / final(확정) / completed / error
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record StreamingTranscriptMessage(String type, Long startMs, Long endMs, String text) {
+
+    public static StreamingTranscriptMessage partial(TranscriptSegment segment) {
+        return new StreamingTranscriptMessage("partial", segment.startMs(), segment.endMs(), segment.text());
+    }
+
+    public static StreamingTranscriptMessage finalResult(TranscriptSegment segment) {
+        return new StreamingTranscriptMessage("final", segment.startMs(), segment.endMs(), segment.text());
+    }
+
+    public static StreamingTranscriptMessage completed() {
+        return new StreamingTranscriptMessage("completed", null, null, null);
+    }
+
+    public static StreamingTranscriptMessage error(String message) {
+        return new StreamingTranscriptMessage("error", null, null, message);
+    }
+}
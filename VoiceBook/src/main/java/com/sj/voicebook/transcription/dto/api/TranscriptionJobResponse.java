@@ -0,0 +1,18 @@
+package com.sj.voicebook.transcription.dto.api;
+
+import com.sj.voicebook.transcription.domain.TranscriptionPriority;
+import com.sj.voicebook.transcription.domain.TranscriptionStatus;
+import com.sj.voicebook.transcription.dto.application.TranscriptSegment;
+
+import java.util.List;
+
+public record TranscriptionJobResponse(
+        Long jobId,
+        Long recordingId,
+        TranscriptionPriority priority,
+        TranscriptionStatus status,
+        String transcript,
+        List<TranscriptSegment> segments,
+        String error
+) {
+}
@@ -0,0 +1,7 @@
+package com.sj.voicebook.transcription.dto.application;
+
+/**
+ * 변환 요청 한 건 - durationMs는 알 수 없으면 null
+ */
+public record SttRequest(Long jobId, byte[] audio, String contentType, Long durationMs) {
+}
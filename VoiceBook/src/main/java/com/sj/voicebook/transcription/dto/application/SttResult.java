@@ -0,0 +1,9 @@
+package com.sj.voicebook.transcription.dto.application;
+
+import java.util.List;
+
+/**
+ * 변환 결과 - segments의 시각은 엔진에 넘긴 오디오 기준
+ */
+public record SttResult(String text, List<TranscriptSegment> segments) {
+}
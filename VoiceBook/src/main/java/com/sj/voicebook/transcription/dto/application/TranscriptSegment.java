@@ -0,0 +1,4 @@
+package com.sj.voicebook.transcription.dto.application;
+
+public record TranscriptSegment(long startMs, long endMs, String text) {
+}
@@ -0,0 +1,37 @@
+package com.sj.voicebook.transcription.repository;
+
+import com.sj.voicebook.transcription.domain.TranscriptionJob;
+import com.sj.voicebook.transcription.domain.TranscriptionStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface TranscriptionJobRepository extends JpaRepository<TranscriptionJob, Long> {
+
+    /**
+     * 변환할 작업 선점 - 우선순위, 접수 순서대로 QUEUED 건과 lease가 끝난 RUNNING 건
+     * SKIP LOCKED로 여러 노드의 worker가 같은 행을 가져가지 않는다.
+     */
+    @Query(value = "SELECT * FROM transcription_jobs " +
+            "WHERE status = 'QUEUED' " +
+            "OR (status = 'RUNNING' AND locked_until < :now) " +
+            "ORDER BY priority, id " +
+            "LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<TranscriptionJob> findClaimable(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * 결과 기록용 행 잠금 - 기록하는 동안 lease가 끝난 작업을 다른 worker가 선점하지 못한다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT j FROM TranscriptionJob j WHERE j.id IN :ids")
+    List<TranscriptionJob> findAllForUpdate(@Param("ids") Collection<Long> ids);
+
+    long countByStatus(TranscriptionStatus status);
+}
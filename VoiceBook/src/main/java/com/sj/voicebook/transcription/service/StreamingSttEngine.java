@@ -0,0 +1,48 @@
+package com.sj.voicebook.transcription.service;
+
+import com.sj.voicebook.transcription.dto.application.TranscriptSegment;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 실시간 음성 인식 엔진
+ * 오디오는 16kHz mono PCM16(little endian) 프레임으로 들어오며, 결과는 Listener 콜백으로 비동기 전달된다.
+ * accept/finish는 호출 스레드를 오래 막으면 안 된다 (WebSocket 메시지 처리 스레드에서 호출됨).
+ * 구현체는 transcription.streaming.engine 설정으로 하나만 등록되며, 설정이 없으면 애플리케이션이 시작되지 않는다.
+ */
+public interface StreamingSttEngine {
+
+    Session open(Listener listener);
+
+    interface Session {
+
+        void accept(ByteBuffer frame);
+
+        /**
+         * 입력 종료 - 남은 결과를 onFinal로 보낸 뒤 onComplete를 호출한다.
+         */
+        void finish();
+
+        /**
+         * 연결이 끊긴 경우 - 이후 콜백은 호출되지 않는다.
+         */
+        void cancel();
+    }
+
+    interface Listener {
+
+        /**
+         * 아직 바뀔 수 있는 중간 결과
+         */
+        void onPartial(TranscriptSegment segment);
+
+        /**
+         * 확정된 구간
+         */
+        void onFinal(TranscriptSegment segment);
+
+        void onComplete();
+
+        void onError(Throwable error);
+    }
+}
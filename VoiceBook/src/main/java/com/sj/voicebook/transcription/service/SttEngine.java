@@ -0,0 +1,25 @@
+package com.sj.voicebook.transcription.service;
+
+import com.sj.voicebook.transcription.dto.application.SttRequest;
+import com.sj.voicebook.transcription.dto.application.SttResult;
+
+import java.util.List;
+
+/**
+ * 음성 인식 엔진
+ * 구현체는 transcription.engine 설정으로 하나만 등록된다. 설정이 없으면 엔진이 없어 애플리케이션이 시작되지 않는다.
+ */
+public interface SttEngine {
+
+    /**
+     * 요청 순서와 같은 순서로 결과를 반환한다. 일부만 실패하는 경우는 없고, 실패하면 예외를 던진다.
+     */
+    List<SttResult> transcribe(List<SttRequest> requests);
+
+    /**
+     * 한 번의 호출에 묶을 수 있는 최대 요청 수
+     */
+    default int maxBatchSize() {
+        return 1;
+    }
+}
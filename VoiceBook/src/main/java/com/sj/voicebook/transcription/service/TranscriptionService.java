@@ -0,0 +1,95 @@
+package com.sj.voicebook.transcription.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sj.voicebook.global.exception.BusinessException;
+import com.sj.voicebook.global.exception.ErrorCode;
+import com.sj.voicebook.recording.domain.Recording;
+import com.sj.voicebook.recording.repository.RecordingRepository;
+import com.sj.voicebook.transcription.domain.TranscriptionJob;
+import com.sj.voicebook.transcription.domain.TranscriptionPriority;
+import com.sj.voicebook.transcription.domain.TranscriptionStatus;
+import com.sj.voicebook.transcription.dto.api.TranscriptionJobResponse;
+import com.sj.voicebook.transcription.dto.application.TranscriptSegment;
+import com.sj.voicebook.transcription.repository.TranscriptionJobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 변환 작업 접수와 조회
+ * 접수는 INSERT 한 번으로 끝나고, 실제 변환은 TranscriptionWorker가 처리한다.
+ */
+@Slf4j
+@Service
+public class TranscriptionService {
+
+    private static final TypeReference<List<TranscriptSegment>> SEGMENTS_TYPE = new TypeReference<>() {
+    };
+
+    private final TranscriptionJobRepository transcriptionJobRepository;
+    private final RecordingRepository recordingRepository;
+    private final ObjectMapper objectMapper;
+    private final long maxBacklog;
+
+    public TranscriptionService(
+            TranscriptionJobRepository transcriptionJobRepository,
+            RecordingRepository recordingRepository,
+            ObjectMapper objectMapper,
+            @Value("${transcription.max-backlog:10000}") long maxBacklog
+    ) {
+        this.transcriptionJobRepository = transcriptionJobRepository;
+        this.recordingRepository = recordingRepository;
+        this.objectMapper = objectMapper;
+        this.maxBacklog = maxBacklog;
+    }
+
+    /**
+     * 대기 건이 너무 많으면 BACKFILL은 거절하고 INTERACTIVE만 받는다.
+     */
+    @Transactional
+    public TranscriptionJobResponse submit(Long userId, Long recordingId, TranscriptionPriority priority) {
+        Recording recording = recordingRepository.findById(recordingId)
+                .filter(found -> found.getUserId().equals(userId))
+                .orElseThrow(() -> new BusinessException(ErrorCode.RECORDING_NOT_FOUND));
+
+        TranscriptionPriority resolved = priority != null ? priority : TranscriptionPriority.INTERACTIVE;
+        if (resolved == TranscriptionPriority.BACKFILL
+                && transcriptionJobRepository.countByStatus(TranscriptionStatus.QUEUED) >= maxBacklog) {
+            log.warn("변환 대기 건수 초과, BACKFILL 요청 거절 (recording: {})", recordingId);
+            throw new BusinessException(ErrorCode.SERVER_BUSY);
+        }
+
+        TranscriptionJob job = transcriptionJobRepository.save(
+                TranscriptionJob.create(userId, recording.getId(), resolved));
+        return toResponse(job);
+    }
+
+    @Transactional(readOnly = true)
+    public TranscriptionJobResponse get(Long userId, Long jobId) {
+        return toResponse(findOwned(userId, jobId));
+    }
+
+    TranscriptionJob findOwned(Long userId, Long jobId) {
+        return transcriptionJobRepository.findById(jobId)
+                .filter(job -> job.getUserId().equals(userId))
+                .orElseThrow(() -> new BusinessException(ErrorCode.TRANSCRIPTION_JOB_NOT_FOUND));
+    }
+
+    TranscriptionJobResponse toResponse(TranscriptionJob job) {
+        List<TranscriptSegment> segments = List.of();
+        if (job.getSegments() != null) {
+            try {
+                segments = objectMapper.readValue(job.getSegments(), SEGMENTS_TYPE);
+            } catch (JsonProcessingException e) {
+                log.error("Invalid transcript segments: {}", job.getId(), e);
+            }
+        }
+        return new TranscriptionJobResponse(job.getId(), job.getRecordingId(), job.getPriority(), job.getStatus(),
+                job.getTranscript(), segments, job.getStatus() == TranscriptionStatus.FAILED ? job.getLastError() : null);
+    }
+}
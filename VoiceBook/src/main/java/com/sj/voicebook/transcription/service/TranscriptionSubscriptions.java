@@ -0,0 +1,136 @@
+package com.sj.voicebook.transcription.service;
+
+import com.sj.voicebook.transcription.domain.TranscriptionJob;
+import com.sj.voicebook.transcription.dto.api.TranscriptionJobResponse;
+import com.sj.voicebook.transcription.repository.TranscriptionJobRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 변환 작업 상태 구독 (SSE)
+ * worker는 어느 노드에서든 상태가 바뀐 job id를 Redis 채널에 알리고,
+ * 구독 연결을 가진 노드가 작업을 다시 읽어 전송한다. 완료/실패가 전송되면 연결을 닫는다.
+ */
+@Slf4j
+@Component
+public class TranscriptionSubscriptions implements MessageListener {
+
+    private static final String CHANNEL = "transcription:updated";
+    private static final String EVENT_NAME = "transcription";
+
+    private final TranscriptionService transcriptionService;
+    private final TranscriptionJobRepository transcriptionJobRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final long timeoutMillis;
+
+    private final Map<Long, Set<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    public TranscriptionSubscriptions(
+            TranscriptionService transcriptionService,
+            TranscriptionJobRepository transcriptionJobRepository,
+            StringRedisTemplate stringRedisTemplate,
+            RedisMessageListenerContainer redisMessageListenerContainer,
+            @Value("${transcription.subscription-timeout:5m}") Duration timeout
+    ) {
+        this.transcriptionService = transcriptionService;
+        this.transcriptionJobRepository = transcriptionJobRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.timeoutMillis = timeout.toMillis();
+    }
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 등록을 먼저 하고 현재 상태를 보내므로, 그 사이에 끝난 작업도 놓치지 않는다.
+     */
+    public SseEmitter subscribe(Long userId, Long jobId) {
+        TranscriptionJob job = transcriptionService.findOwned(userId, jobId);
+
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        emitters.computeIfAbsent(jobId, id -> ConcurrentHashMap.newKeySet()).add(emitter);
+        emitter.onCompletion(() -> remove(jobId, emitter));
+        emitter.onTimeout(() -> remove(jobId, emitter));
+        emitter.onError(e -> remove(jobId, emitter));
+
+        send(emitter, transcriptionService.toResponse(job));
+        return emitter;
+    }
+
+    /**
+     * 상태가 바뀐 작업을 모든 노드에 알림 - 실패해도 클라이언트는 조회 API로 상태를 확인할 수 있다.
+     */
+    public void publish(List<Long> jobIds) {
+        if (jobIds.isEmpty()) {
+            return;
+        }
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL,
+                    jobIds.stream().map(String::valueOf).collect(Collectors.joining(",")));
+        } catch (DataAccessException e) {
+            log.error("Failed to publish transcription update: {}", jobIds, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        for (String value : new String(message.getBody(), StandardCharsets.UTF_8).split(",")) {
+            Long jobId;
+            try {
+                jobId = Long.valueOf(value);
+            } catch (NumberFormatException e) {
+                log.error("Invalid transcription update message: {}", value);
+                continue;
+            }
+
+            Set<SseEmitter> subscribers = emitters.get(jobId);
+            if (subscribers == null || subscribers.isEmpty()) {
+                continue;
+            }
+            transcriptionJobRepository.findById(jobId)
+                    .map(transcriptionService::toResponse)
+                    .ifPresent(response -> subscribers.forEach(emitter -> send(emitter, response)));
+        }
+    }
+
+    private void send(SseEmitter emitter, TranscriptionJobResponse response) {
+        try {
+            emitter.send(SseEmitter.event().name(EVENT_NAME).data(response));
+            if (response.status().isTerminal()) {
+                emitter.complete();
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 이미 끊긴 연결
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void remove(Long jobId, SseEmitter emitter) {
+        emitters.computeIfPresent(jobId, (id, subscribers) -> {
+            subscribers.remove(emitter);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+}
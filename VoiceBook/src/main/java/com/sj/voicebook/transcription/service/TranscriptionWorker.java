@@ -0,0 +1,331 @@
+package com.sj.voicebook.transcription.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sj.voicebook.recording.domain.Recording;
+import com.sj.voicebook.recording.domain.RecordingStatus;
+import com.sj.voicebook.recording.dto.application.TimestampMap;
+import com.sj.voicebook.recording.repository.RecordingRepository;
+import com.sj.voicebook.recording.service.RecordingProcessingService;
+import com.sj.voicebook.transcription.domain.TranscriptionJob;
+import com.sj.voicebook.transcription.domain.TranscriptionStatus;
+import com.sj.voicebook.transcription.dto.application.SttRequest;
+import com.sj.voicebook.transcription.dto.application.SttResult;
+import com.sj.voicebook.transcription.dto.application.TranscriptSegment;
+import com.sj.voicebook.transcription.repository.TranscriptionJobRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 변환 작업을 처리하는 worker
+ * 1. 짧은 트랜잭션으로 우선순위 순서대로 작업을 선점(RUNNING + lease)하고
+ * 2. 짧은 녹음은 엔진 호출 한 번에 여러 건을 묶어(micro-batch) sttExecutor에서 변환한 뒤
+ * 3. 결과를 COMPLETED / 재시도 / FAILED 로 기록하고 구독자에게 알린다.
+ * 변환 중에는 DB 커넥션을 잡고 있지 않으며, 동시 변환 수는 sttExecutor 크기로 제한된다.
+ */
+@Slf4j
+@Component
+public class TranscriptionWorker {
+
+    private final TranscriptionJobRepository transcriptionJobRepository;
+    private final RecordingRepository recordingRepository;
+    private final TranscriptionSubscriptions transcriptionSubscriptions;
+    private final SttEngine sttEngine;
+    private final S3Client s3Client;
+    private final ThreadPoolTaskExecutor sttExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final String bucketName;
+
+    private final int claimSize;
+    private final int maxInFlightBatches;
+    private final long shortClipMs;
+    private final long maxBatchDurationMs;
+    private final int maxAttempts;
+    private final Duration lease;
+    private final AtomicInteger inFlightBatches = new AtomicInteger();
+
+    private final Counter completedCounter;
+    private final Counter retriedCounter;
+    private final Counter failedCounter;
+    private final DistributionSummary batchSizeSummary;
+
+    public TranscriptionWorker(
+            TranscriptionJobRepository transcriptionJobRepository,
+            RecordingRepository recordingRepository,
+            TranscriptionSubscriptions transcriptionSubscriptions,
+            SttEngine sttEngine,
+            S3Client s3Client,
+            @Qualifier("sttExecutor") ThreadPoolTaskExecutor sttExecutor,
+            TransactionTemplate transactionTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${recording.upload.bucket:${spring.cloud.aws.s3.bucket}}") String bucketName,
+            @Value("${transcription.claim-size:32}") int claimSize,
+            @Value("${transcription.max-in-flight-batches:4}") int maxInFlightBatches,
+            @Value("${transcription.short-clip:30s}") Duration shortClip,
+            @Value("${transcription.max-batch-duration:2m}") Duration maxBatchDuration,
+            @Value("${transcription.max-attempts:3}") int maxAttempts,
+            @Value("${transcription.lease:10m}") Duration lease
+    ) {
+        this.transcriptionJobRepository = transcriptionJobRepository;
+        this.recordingRepository = recordingRepository;
+        this.transcriptionSubscriptions = transcriptionSubscriptions;
+        this.sttEngine = sttEngine;
+        this.s3Client = s3Client;
+        this.sttExecutor = sttExecutor;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.bucketName = bucketName;
+        this.claimSize = claimSize;
+        this.maxInFlightBatches = maxInFlightBatches;
+        this.shortClipMs = shortClip.toMillis();
+        this.maxBatchDurationMs = maxBatchDuration.toMillis();
+        this.maxAttempts = maxAttempts;
+        this.lease = lease;
+        this.completedCounter = meterRegistry.counter("transcription.jobs", "result", "completed");
+        this.retriedCounter = meterRegistry.counter("transcription.jobs", "result", "retried");
+        this.failedCounter = meterRegistry.counter("transcription.jobs", "result", "failed");
+        this.batchSizeSummary = meterRegistry.summary("transcription.batch.size");
+    }
+
+    /**
+     * 빈 슬롯 수만큼만 batch를 실행하고 남은 작업은 바로 대기열로 돌려보낸다.
+     * executor 큐에 작업을 쌓아 두지 않으므로 나중에 들어온 INTERACTIVE 작업이 다음 poll에서 먼저 선점된다.
+     */
+    @Scheduled(fixedDelayString = "${transcription.poll-interval-ms:200}")
+    public void poll() {
+        int free;
+        while ((free = maxInFlightBatches - inFlightBatches.get()) > 0) {
+            List<WorkItem> claimed = claim(Math.min(claimSize, free * sttEngine.maxBatchSize()));
+            if (claimed.isEmpty()) {
+                return;
+            }
+
+            List<List<WorkItem>> batches = batches(claimed);
+            List<Long> released = new ArrayList<>();
+            for (int i = 0; i < batches.size(); i++) {
+                List<WorkItem> batch = batches.get(i);
+                if (i >= free || !submit(batch)) {
+                    batch.forEach(item -> released.add(item.jobId()));
+                }
+            }
+            release(released);
+
+            List<Long> running = claimed.stream().map(WorkItem::jobId).filter(id -> !released.contains(id)).toList();
+            transcriptionSubscriptions.publish(running);
+            if (!released.isEmpty()) {
+                return;
+            }
+        }
+    }
+
+    private boolean submit(List<WorkItem> batch) {
+        inFlightBatches.incrementAndGet();
+        try {
+            sttExecutor.execute(() -> {
+                try {
+                    transcribe(batch);
+                } finally {
+                    inFlightBatches.decrementAndGet();
+                }
+            });
+            return true;
+        } catch (TaskRejectedException e) {
+            inFlightBatches.decrementAndGet();
+            log.warn("STT executor 포화, {}건을 대기열로 되돌림", batch.size());
+            return false;
+        }
+    }
+
+    private void release(List<Long> jobIds) {
+        if (jobIds.isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status ->
+                transcriptionJobRepository.findAllForUpdate(jobIds).forEach(TranscriptionJob::release));
+    }
+
+    private List<WorkItem> claim(int limit) {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<TranscriptionJob> jobs = transcriptionJobRepository.findClaimable(now, limit);
+            if (jobs.isEmpty()) {
+                return List.of();
+            }
+            jobs.forEach(job -> job.markRunning(now.plus(lease)));
+
+            Map<Long, Recording> recordings = new HashMap<>();
+            recordingRepository.findAllById(jobs.stream().map(TranscriptionJob::getRecordingId).toList())
+                    .forEach(recording -> recordings.put(recording.getId(), recording));
+            return jobs.stream()
+                    .map(job -> toWorkItem(job, recordings.get(job.getRecordingId())))
+                    .toList();
+        });
+    }
+
+    /**
+     * 짧은 녹음은 선점 순서(우선순위 순)를 유지한 채 엔진 최대 batch 크기와 합계 길이 안에서 묶는다.
+     * 길이를 모르거나 긴 녹음은 단독으로 처리한다.
+     */
+    private List<List<WorkItem>> batches(List<WorkItem> items) {
+        List<List<WorkItem>> batches = new ArrayList<>();
+        List<WorkItem> current = new ArrayList<>();
+        long currentDuration = 0;
+        for (WorkItem item : items) {
+            boolean shortClip = item.durationMs() != null && item.durationMs() <= shortClipMs;
+            if (!shortClip) {
+                batches.add(List.of(item));
+                continue;
+            }
+            if (current.size() >= sttEngine.maxBatchSize() || currentDuration + item.durationMs() > maxBatchDurationMs) {
+                batches.add(current);
+                current = new ArrayList<>();
+                currentDuration = 0;
+            }
+            current.add(item);
+            currentDuration += item.durationMs();
+        }
+        if (!current.isEmpty()) {
+            batches.add(current);
+        }
+        return batches;
+    }
+
+    private void transcribe(List<WorkItem> batch) {
+        Map<Long, String> failures = new HashMap<>();
+        Map<Long, SttResult> results = new HashMap<>();
+
+        List<WorkItem> ready = new ArrayList<>();
+        List<SttRequest> requests = new ArrayList<>();
+        for (WorkItem item : batch) {
+            if (item.objectKey() == null) {
+                failures.put(item.jobId(), "Recording not found");
+                continue;
+            }
+            try {
+                byte[] audio = s3Client.getObjectAsBytes(GetObjectRequest.builder()
+                        .bucket(bucketName)
+                        .key(item.objectKey())
+                        .build()).asByteArray();
+                requests.add(new SttRequest(item.jobId(), audio, item.contentType(), item.durationMs()));
+                ready.add(item);
+            } catch (SdkException e) {
+                failures.put(item.jobId(), e.getMessage());
+            }
+        }
+
+        if (!requests.isEmpty()) {
+            batchSizeSummary.record(requests.size());
+            try {
+                List<SttResult> transcribed = sttEngine.transcribe(requests);
+                for (int i = 0; i < ready.size(); i++) {
+                    results.put(ready.get(i).jobId(), transcribed.get(i));
+                }
+            } catch (RuntimeException e) {
+                log.error("STT 엔진 호출 실패 ({}건)", requests.size(), e);
+                ready.forEach(item -> failures.put(item.jobId(), e.getMessage()));
+            }
+        }
+
+        Map<Long, WorkItem> items = new HashMap<>();
+        batch.forEach(item -> items.put(item.jobId(), item));
+        complete(items, results, failures);
+    }
+
+    private void complete(Map<Long, WorkItem> items, Map<Long, SttResult> results, Map<Long, String> failures) {
+        transactionTemplate.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            for (TranscriptionJob job : transcriptionJobRepository.findAllForUpdate(items.keySet())) {
+                // lease가 끝나 다른 worker가 다시 가져간 경우는 건드리지 않음 - 선점할 때마다 attempts가 늘어난다.
+                if (job.getStatus() != TranscriptionStatus.RUNNING || job.getAttempts() != items.get(job.getId()).attempt()) {
+                    continue;
+                }
+
+                SttResult result = results.get(job.getId());
+                if (result != null) {
+                    try {
+                        List<TranscriptSegment> segments = toOriginal(result.segments(), items.get(job.getId()).timestampMap());
+                        job.markCompleted(result.text(), objectMapper.writeValueAsString(segments), now);
+                        completedCounter.increment();
+                        continue;
+                    } catch (JsonProcessingException e) {
+                        failures.put(job.getId(), e.getMessage());
+                    }
+                }
+
+                job.markFailed(failures.getOrDefault(job.getId(), "No result"), maxAttempts, now);
+                if (job.getStatus() == TranscriptionStatus.FAILED) {
+                    failedCounter.increment();
+                    log.error("변환 최종 실패 (job id: {}, 시도: {}회): {}", job.getId(), job.getAttempts(), job.getLastError());
+                } else {
+                    retriedCounter.increment();
+                    log.warn("변환 실패, 재시도 (job id: {}): {}", job.getId(), job.getLastError());
+                }
+            }
+        });
+        transcriptionSubscriptions.publish(List.copyOf(items.keySet()));
+    }
+
+    /**
+     * 무음이 제거된 오디오 기준 시각을 원본 녹음 기준으로 바꾼다.
+     */
+    private List<TranscriptSegment> toOriginal(List<TranscriptSegment> segments, TimestampMap timestampMap) {
+        if (timestampMap == null || segments == null) {
+            return segments != null ? segments : List.of();
+        }
+        return segments.stream()
+                .map(segment -> new TranscriptSegment(
+                        timestampMap.toOriginalMs(segment.startMs()),
+                        timestampMap.toOriginalMs(segment.endMs()),
+                        segment.text()))
+                .toList();
+    }
+
+    /**
+     * 변환된 오디오가 있으면 그것을, 없으면 원본을 사용한다.
+     */
+    private WorkItem toWorkItem(TranscriptionJob job, Recording recording) {
+        if (recording == null) {
+            return new WorkItem(job.getId(), job.getAttempts(), null, null, null, null);
+        }
+        if (recording.getStatus() == RecordingStatus.PROCESSED) {
+            try {
+                return new WorkItem(job.getId(), job.getAttempts(), recording.getProcessedKey(),
+                        RecordingProcessingService.PROCESSED_CONTENT_TYPE, recording.getProcessedDurationMs(),
+                        objectMapper.readValue(recording.getTimestampMap(), TimestampMap.class));
+            } catch (JsonProcessingException e) {
+                log.error("Invalid timestamp map, using original recording: {}", recording.getId(), e);
+            }
+        }
+        return new WorkItem(job.getId(), job.getAttempts(), recording.getObjectKey(), recording.getContentType(),
+                recording.getDurationMs(), null);
+    }
+
+    /**
+     * 선점한 작업 하나 - attempt는 선점 시점의 시도 횟수로, 결과를 기록할 때 같은 선점인지 확인한다.
+     */
+    private record WorkItem(Long jobId, int attempt, String objectKey, String contentType, Long durationMs,
+                            TimestampMap timestampMap) {
+    }
+}
@@ -0,0 +1,90 @@
+package com.sj.voicebook.transcription.service.impl;
+
+import com.sj.voicebook.transcription.dto.application.TranscriptSegment;
+import com.sj.voicebook.transcription.service.StreamingSttEngine;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+
+/**
+ * 로컬/테스트용 실시간 엔진 - 같은 오디오에는 항상 같은 결과를 돌려준다.
+ * 300ms 분량마다 중간 결과를, 3초 분량마다 확정 결과를 보낸다.
+ */
+@Component
+@ConditionalOnProperty(name = "transcription.streaming.engine", havingValue = "stub")
+public class StubStreamingSttEngine implements StreamingSttEngine {
+
+    // 16kHz * 2 bytes
+    private static final int BYTES_PER_MS = 32;
+    private static final long PARTIAL_INTERVAL_MS = 300;
+    private static final long SEGMENT_MS = 3_000;
+
+    @Override
+    public Session open(Listener listener) {
+        return new StubSession(listener);
+    }
+
+    private static class StubSession implements Session {
+
+        private final Listener listener;
+        private final CRC32 crc = new CRC32();
+        private long receivedBytes;
+        private long segmentStartMs;
+        private long lastPartialMs;
+        private int segmentIndex;
+        private boolean closed;
+
+        StubSession(Listener listener) {
+            this.listener = listener;
+        }
+
+        @Override
+        public synchronized void accept(ByteBuffer frame) {
+            if (closed) {
+                return;
+            }
+            receivedBytes += frame.remaining();
+            crc.update(frame);
+
+            long nowMs = receivedBytes / BYTES_PER_MS;
+            if (nowMs - segmentStartMs >= SEGMENT_MS) {
+                emitFinal(nowMs);
+            } else if (nowMs - lastPartialMs >= PARTIAL_INTERVAL_MS) {
+                lastPartialMs = nowMs;
+                listener.onPartial(new TranscriptSegment(segmentStartMs, nowMs, text()));
+            }
+        }
+
+        @Override
+        public synchronized void finish() {
+            if (closed) {
+                return;
+            }
+            long nowMs = receivedBytes / BYTES_PER_MS;
+            if (nowMs > segmentStartMs) {
+                emitFinal(nowMs);
+            }
+            closed = true;
+            listener.onComplete();
+        }
+
+        @Override
+        public synchronized void cancel() {
+            closed = true;
+        }
+
+        private void emitFinal(long nowMs) {
+            listener.onFinal(new TranscriptSegment(segmentStartMs, nowMs, text()));
+            segmentIndex++;
+            segmentStartMs = nowMs;
+            lastPartialMs = nowMs;
+            crc.reset();
+        }
+
+        private String text() {
+            return "segment-" + segmentIndex + "-" + Long.toHexString(crc.getValue());
+        }
+    }
+}
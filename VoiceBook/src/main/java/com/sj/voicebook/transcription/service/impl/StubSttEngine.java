@@ -0,0 +1,60 @@
+package com.sj.voicebook.transcription.service.impl;
+
+import com.sj.voicebook.transcription.dto.application.SttRequest;
+import com.sj.voicebook.transcription.dto.application.SttResult;
+import com.sj.voicebook.transcription.dto.application.TranscriptSegment;
+import com.sj.voicebook.transcription.service.SttEngine;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * 로컬/테스트용 엔진 - 같은 오디오에는 항상 같은 결과를 돌려준다.
+ * 텍스트는 오디오 해시이고, 구간은 segment-ms 간격으로 나눈다.
+ */
+@Component
+@ConditionalOnProperty(name = "transcription.engine", havingValue = "stub")
+public class StubSttEngine implements SttEngine {
+
+    private static final long SEGMENT_MS = 5_000;
+    private static final int MAX_BATCH_SIZE = 16;
+
+    @Override
+    public List<SttResult> transcribe(List<SttRequest> requests) {
+        List<SttResult> results = new ArrayList<>(requests.size());
+        for (SttRequest request : requests) {
+            String hash = sha256(request.audio()).substring(0, 12);
+            long duration = request.durationMs() != null ? request.durationMs() : 0;
+
+            List<TranscriptSegment> segments = new ArrayList<>();
+            int index = 0;
+            for (long start = 0; start < duration; start += SEGMENT_MS) {
+                segments.add(new TranscriptSegment(start, Math.min(start + SEGMENT_MS, duration),
+                        "segment-" + index++ + "-" + hash));
+            }
+            String text = segments.isEmpty()
+                    ? "transcript-" + hash
+                    : String.join(" ", segments.stream().map(TranscriptSegment::text).toList());
+            results.add(new SttResult(text, segments));
+        }
+        return results;
+    }
+
+    @Override
+    public int maxBatchSize() {
+        return MAX_BATCH_SIZE;
+    }
+
+    private static String sha256(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+-- KEYS[1]: 최근 대화 list, KEYS[2]: 메타 hash(count, bytes), KEYS[3]: digest
+-- ARGV[1]: 직렬화된 turn, ARGV[2]: 최대 turn 수, ARGV[3]: 최대 바이트, ARGV[4]: 유효시간(ms)
+-- 반환: {-1} 캐시 없음(DB에서 다시 만들어야 함), {전체 turn 수, 밀려난 turn...}
+if redis.call('EXISTS', KEYS[2]) == 0 then
+    return {-1}
+end
+
+redis.call('RPUSH', KEYS[1], ARGV[1])
+local count = redis.call('HINCRBY', KEYS[2], 'count', 1)
+local bytes = redis.call('HINCRBY', KEYS[2], 'bytes', string.len(ARGV[1]))
+local maxTurns = tonumber(ARGV[2])
+local maxBytes = tonumber(ARGV[3])
+
+local result = {count}
+local length = redis.call('LLEN', KEYS[1])
+while length > 1 and (length > maxTurns or bytes > maxBytes) do
+    local evicted = redis.call('LPOP', KEYS[1])
+    bytes = redis.call('HINCRBY', KEYS[2], 'bytes', -string.len(evicted))
+    length = length - 1
+    table.insert(result, evicted)
+end
+
+redis.call('PEXPIRE', KEYS[1], ARGV[4])
+redis.call('PEXPIRE', KEYS[2], ARGV[4])
+redis.call('PEXPIRE', KEYS[3], ARGV[4])
+return result
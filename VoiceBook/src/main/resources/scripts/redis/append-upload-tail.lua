@@ -0,0 +1,14 @@
+-- KEYS[1]: 잠금 키, KEYS[2]: 세션 hash, KEYS[3]: tail 키
+-- ARGV[1]: 잠금 토큰, ARGV[2]: tail에 이어 붙일 바이트, ARGV[3]: 세션 TTL(ms)
+-- 반환: 이어 붙인 뒤 tail 길이, -1 잠금을 잃음 (쓰지 않음)
+if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+    return -1
+end
+
+local length = redis.call('STRLEN', KEYS[3])
+if #ARGV[2] > 0 then
+    length = redis.call('APPEND', KEYS[3], ARGV[2])
+end
+redis.call('PEXPIRE', KEYS[2], ARGV[3])
+redis.call('PEXPIRE', KEYS[3], ARGV[3])
+return length
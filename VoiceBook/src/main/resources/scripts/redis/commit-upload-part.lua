@@ -0,0 +1,12 @@
+-- KEYS[1]: 잠금 키, KEYS[2]: 세션 hash, KEYS[3]: tail 키
+-- ARGV[1]: 잠금 토큰, ARGV[2]: part 목록(JSON), ARGV[3]: part 바이트 합, ARGV[4]: 세션 TTL(ms)
+-- part 목록 갱신과 tail 비우기를 한 번에 반영해 offset(part 바이트 합 + tail 길이)이 어긋나지 않게 한다.
+-- 반환: 1 반영됨, -1 잠금을 잃음 (쓰지 않음)
+if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+    return -1
+end
+
+redis.call('HSET', KEYS[2], 'parts', ARGV[2], 'partsBytes', ARGV[3])
+redis.call('DEL', KEYS[3])
+redis.call('PEXPIRE', KEYS[2], ARGV[4])
+return 1
@@ -0,0 +1,27 @@
+-- KEYS[1]: 값 키, KEYS[2]: 실패 횟수 키
+-- ARGV[1]: 기대 값, ARGV[2]: 최대 시도 횟수
+-- 반환: 1 일치(삭제됨), 0 불일치, -1 키 없음, -2 시도 횟수 초과(삭제됨)
+local stored = redis.call('GET', KEYS[1])
+if not stored then
+    return -1
+end
+
+if stored == ARGV[1] then
+    redis.call('DEL', KEYS[1], KEYS[2])
+    return 1
+end
+
+local attempts = redis.call('INCR', KEYS[2])
+if attempts == 1 then
+    -- 실패 횟수는 값과 함께 만료
+    local ttl = redis.call('PTTL', KEYS[1])
+    if ttl > 0 then
+        redis.call('PEXPIRE', KEYS[2], ttl)
+    end
+end
+
+if attempts >= tonumber(ARGV[2]) then
+    redis.call('DEL', KEYS[1], KEYS[2])
+    return -2
+end
+return 0
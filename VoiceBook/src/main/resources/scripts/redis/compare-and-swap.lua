@@ -0,0 +1,14 @@
+-- KEYS[1]: 값 키
+-- ARGV[1]: 기대 값, ARGV[2]: 새 값, ARGV[3]: 새 값의 유효시간(ms)
+-- 반환: 1 교체됨, 0 불일치, -1 키 없음
+local stored = redis.call('GET', KEYS[1])
+if not stored then
+    return -1
+end
+
+if stored ~= ARGV[1] then
+    return 0
+end
+
+redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+return 1
@@ -0,0 +1,7 @@
+-- 캐시 무효화 - 값을 지우고 버전을 올려, 무효화 전에 시작된 조회 결과가 다시 저장되지 않게 한다.
+-- KEYS[1]: 값 키, KEYS[2]: 버전 키
+-- ARGV[1]: 버전 키 유효시간(ms), 값 유효시간 이상이어야 한다.
+redis.call('DEL', KEYS[1])
+redis.call('INCR', KEYS[2])
+redis.call('PEXPIRE', KEYS[2], ARGV[1])
+return 1
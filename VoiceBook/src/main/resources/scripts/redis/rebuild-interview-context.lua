@@ -0,0 +1,17 @@
+-- KEYS[1]: 최근 대화 list, KEYS[2]: 메타 hash(count, bytes), KEYS[3]: digest
+-- ARGV[1]: DB 기준 전체 turn 수, ARGV[2]: list 바이트 합계, ARGV[3]: 유효시간(ms), ARGV[4]: digest, ARGV[5..]: 직렬화된 turn
+-- 반환: 1 저장함, 0 캐시가 이미 같거나 더 최신이라 건너뜀
+local current = redis.call('HGET', KEYS[2], 'count')
+if current and tonumber(current) >= tonumber(ARGV[1]) then
+    return 0
+end
+
+redis.call('DEL', KEYS[1])
+if #ARGV > 4 then
+    redis.call('RPUSH', KEYS[1], unpack(ARGV, 5))
+    redis.call('PEXPIRE', KEYS[1], ARGV[3])
+end
+redis.call('HSET', KEYS[2], 'count', ARGV[1], 'bytes', ARGV[2])
+redis.call('PEXPIRE', KEYS[2], ARGV[3])
+redis.call('SET', KEYS[3], ARGV[4], 'PX', ARGV[3])
+return 1
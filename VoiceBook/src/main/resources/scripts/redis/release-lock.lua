@@ -0,0 +1,8 @@
+-- KEYS[1]: 잠금 키
+-- ARGV[1]: 잠금을 얻을 때 저장한 토큰
+-- 반환: 1 해제됨, 0 다른 요청의 잠금이거나 이미 만료됨 (건드리지 않음)
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    redis.call('DEL', KEYS[1])
+    return 1
+end
+return 0
@@ -0,0 +1,11 @@
+-- DB 조회 결과를 캐시에 저장 - 조회를 시작한 뒤 무효화(버전 증가)가 없었을 때만 저장
+-- KEYS[1]: 값 키, KEYS[2]: 버전 키
+-- ARGV[1]: 조회 전에 읽은 버전 (없으면 빈 문자열), ARGV[2]: 값, ARGV[3]: 유효시간(ms)
+-- 반환: 1 저장됨, 0 그 사이 무효화되어 저장하지 않음
+local version = redis.call('GET', KEYS[2]) or ''
+if version ~= ARGV[1] then
+    return 0
+end
+
+redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+return 1
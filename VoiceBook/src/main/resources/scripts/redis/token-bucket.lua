@@ -0,0 +1,29 @@
+-- 여러 token bucket에서 토큰 1개씩을 원자적으로 사용
+-- KEYS[i]: 버킷 키, ARGV[2i-1]: capacity, ARGV[2i]: 초당 충전량
+-- 반환: 0 허용(모든 버킷에서 차감됨), 양수 거절(재시도까지 남은 ms, 어떤 버킷도 차감되지 않음)
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local available = {}
+for i, key in ipairs(KEYS) do
+    local capacity = tonumber(ARGV[2 * i - 1])
+    local rate = tonumber(ARGV[2 * i])
+    local state = redis.call('HMGET', key, 'tokens', 'ts')
+    local tokens = tonumber(state[1]) or capacity
+    local ts = tonumber(state[2]) or now
+
+    tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate / 1000)
+    if tokens < 1 then
+        return math.ceil((1 - tokens) * 1000 / rate)
+    end
+    available[i] = tokens
+end
+
+for i, key in ipairs(KEYS) do
+    local capacity = tonumber(ARGV[2 * i - 1])
+    local rate = tonumber(ARGV[2 * i])
+    redis.call('HSET', key, 'tokens', available[i] - 1, 'ts', now)
+    -- 가득 찰 때까지 사용되지 않으면 버킷을 제거
+    redis.call('PEXPIRE', key, math.ceil(capacity * 1000 / rate))
+end
+return 0
@@ -0,0 +1,110 @@
+package com.sj.voicebook.global.mail;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.MimeMessageHelper;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로컬 SMTP 서버(GreenMail)에 실제로 연결해 연결 재사용과 끊긴 연결 복구를 확인
+ */
+class PooledJavaMailSenderTest {
+
+    @RegisterExtension
+    static final GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP.dynamicPort());
+
+    private final AtomicInteger connects = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        connects.set(0);
+    }
+
+    @Test
+    void sendsBatchOverSingleConnection() throws MessagingException {
+        PooledJavaMailSender sender = sender(100);
+
+        sender.send(message(sender, "a@voicebook.com"), message(sender, "b@voicebook.com"),
+                message(sender, "c@voicebook.com"));
+
+        assertThat(greenMail.getReceivedMessages()).hasSize(3);
+        assertThat(connects).hasValue(1);
+        assertThat(sender.idleConnectionCount()).isEqualTo(1);
+        sender.destroy();
+    }
+
+    @Test
+    void reusesPooledConnectionAcrossSends() throws MessagingException {
+        PooledJavaMailSender sender = sender(100);
+
+        sender.send(message(sender, "a@voicebook.com"));
+        sender.send(message(sender, "b@voicebook.com"));
+
+        assertThat(greenMail.getReceivedMessages()).hasSize(2);
+        assertThat(connects).hasValue(1);
+        sender.destroy();
+    }
+
+    @Test
+    void closesConnectionAfterMaxMessages() throws MessagingException {
+        PooledJavaMailSender sender = sender(1);
+
+        sender.send(message(sender, "a@voicebook.com"));
+        sender.send(message(sender, "b@voicebook.com"));
+
+        assertThat(greenMail.getReceivedMessages()).hasSize(2);
+        assertThat(connects).hasValue(2);
+        assertThat(sender.idleConnectionCount()).isZero();
+        sender.destroy();
+    }
+
+    @Test
+    void reconnectsWhenServerDroppedPooledConnection() throws MessagingException {
+        PooledJavaMailSender sender = sender(100);
+        sender.send(message(sender, "a@voicebook.com"));
+
+        // 서버 재시작으로 풀에 있는 연결이 끊긴다.
+        greenMail.reset();
+        sender.send(message(sender, "b@voicebook.com"));
+
+        assertThat(greenMail.getReceivedMessages()).hasSize(1);
+        assertThat(greenMail.getReceivedMessages()[0].getAllRecipients()[0].toString()).isEqualTo("b@voicebook.com");
+        assertThat(connects).hasValue(2);
+        sender.destroy();
+    }
+
+    private PooledJavaMailSender sender(int maxMessagesPerConnection) {
+        PooledJavaMailSender sender = new PooledJavaMailSender(2, Duration.ofSeconds(30), maxMessagesPerConnection) {
+            @Override
+            protected Transport connectTransport() throws MessagingException {
+                connects.incrementAndGet();
+                return super.connectTransport();
+            }
+        };
+        sender.setHost("localhost");
+        sender.setPort(greenMail.getSmtp().getPort());
+        sender.setProtocol("smtp");
+        sender.setDefaultEncoding("UTF-8");
+        return sender;
+    }
+
+    private static MimeMessage message(PooledJavaMailSender sender, String to) throws MessagingException {
+        MimeMessage message = sender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, "UTF-8");
+        helper.setFrom("no-reply@voicebook.com");
+        helper.setTo(to);
+        helper.setSubject("VoiceBook 인증 코드");
+        helper.setText("123456");
+        return message;
+    }
+}
@@ -0,0 +1,166 @@
+package com.sj.voicebook.media.service;
+
+import com.sj.voicebook.global.exception.BusinessException;
+import com.sj.voicebook.global.exception.ErrorCode;
+import com.sj.voicebook.media.dto.application.UploadResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+import org.testcontainers.containers.MinIOContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.net.URI;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * S3 호환 서버(MinIO)에 실제로 업로드해 단일 PUT/multipart 경로, 크기 제한, 버퍼 풀 공정성을 확인
+ * Docker가 없는 환경에서는 건너뛴다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class MultipartUploaderTest {
+
+    private static final String BUCKET = "voicebook-test";
+    private static final int PART_SIZE = Math.toIntExact(DataSize.ofMebibytes(5).toBytes());
+
+    @Container
+    static final MinIOContainer minio = new MinIOContainer("minio/minio:RELEASE.2024-10-13T13-34-11Z");
+
+    private static S3Client s3Client;
+
+    private ExecutorService executor;
+
+    @BeforeAll
+    static void createBucket() {
+        s3Client = S3Client.builder()
+                .endpointOverride(URI.create(minio.getS3URL()))
+                .region(Region.US_EAST_1)
+                .credentialsProvider(StaticCredentialsProvider.create(
+                        AwsBasicCredentials.create(minio.getUserName(), minio.getPassword())))
+                .forcePathStyle(true)
+                .build();
+        s3Client.createBucket(builder -> builder.bucket(BUCKET));
+    }
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void uploadsSmallFileWithSinglePut() throws Exception {
+        byte[] content = randomBytes(1024);
+
+        UploadResult result = uploader(2).upload(BUCKET, "media/small", "audio/mpeg",
+                new ByteArrayInputStream(content), content.length);
+
+        assertThat(result.partCount()).isZero();
+        assertThat(result.size()).isEqualTo(content.length);
+        assertThat(result.sha256()).isEqualTo(sha256Hex(content));
+        assertThat(download("media/small")).isEqualTo(content);
+    }
+
+    @Test
+    void uploadsLargeFileInParts() throws Exception {
+        byte[] content = randomBytes(PART_SIZE * 2 + 1234);
+
+        UploadResult result = uploader(2).upload(BUCKET, "media/large", "audio/mpeg",
+                new ByteArrayInputStream(content), content.length);
+
+        assertThat(result.partCount()).isEqualTo(3);
+        assertThat(result.size()).isEqualTo(content.length);
+        assertThat(result.sha256()).isEqualTo(sha256Hex(content));
+        assertThat(download("media/large")).isEqualTo(content);
+    }
+
+    @Test
+    void abortsUploadWhenSizeLimitExceeded() {
+        byte[] content = randomBytes(PART_SIZE * 2 + 1);
+
+        assertThatThrownBy(() -> uploader(2).upload(BUCKET, "media/too-large", "audio/mpeg",
+                new ByteArrayInputStream(content), PART_SIZE + 1L))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.FILE_SIZE_EXCEEDED);
+
+        assertThat(s3Client.listMultipartUploads(builder -> builder.bucket(BUCKET)).uploads())
+                .noneMatch(upload -> upload.key().equals("media/too-large"));
+    }
+
+    @Test
+    void idleUploaderDoesNotHoldPooledBuffer() throws Exception {
+        // 버퍼가 하나뿐인 풀에서 데이터를 보내지 않는 업로드가 다른 업로드를 막지 않아야 한다.
+        MultipartUploader uploader = uploader(1);
+        CountDownLatch clientConnected = new CountDownLatch(1);
+        CountDownLatch clientSends = new CountDownLatch(1);
+        byte[] slowContent = randomBytes(1024);
+        InputStream slowClient = new SequenceInputStream(new InputStream() {
+            @Override
+            public int read() {
+                clientConnected.countDown();
+                try {
+                    clientSends.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return -1;
+            }
+        }, new ByteArrayInputStream(slowContent));
+        CompletableFuture<UploadResult> slow = CompletableFuture.supplyAsync(() -> uploader.upload(
+                BUCKET, "media/slow", "audio/mpeg", slowClient, slowContent.length));
+        assertThat(clientConnected.await(10, TimeUnit.SECONDS)).isTrue();
+
+        byte[] content = randomBytes(1024);
+        UploadResult result = uploader.upload(BUCKET, "media/fast", "audio/mpeg",
+                new ByteArrayInputStream(content), content.length);
+
+        assertThat(result.sha256()).isEqualTo(sha256Hex(content));
+        assertThat(slow).isNotDone();
+        clientSends.countDown();
+        assertThat(slow.get(30, TimeUnit.SECONDS).sha256()).isEqualTo(sha256Hex(slowContent));
+    }
+
+    private MultipartUploader uploader(int maxInFlightParts) {
+        return new MultipartUploader(s3Client, executor, new SimpleMeterRegistry(),
+                DataSize.ofBytes(PART_SIZE), maxInFlightParts, 2, 3, 1000);
+    }
+
+    private static byte[] download(String key) {
+        return s3Client.getObjectAsBytes(builder -> builder.bucket(BUCKET).key(key)).asByteArray();
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+
+    private static String sha256Hex(byte[] content) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+    }
+}
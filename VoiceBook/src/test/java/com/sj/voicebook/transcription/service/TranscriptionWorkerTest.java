@@ -0,0 +1,267 @@
+package com.sj.voicebook.transcription.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sj.voicebook.recording.domain.Recording;
+import com.sj.voicebook.recording.repository.RecordingRepository;
+import com.sj.voicebook.transcription.domain.TranscriptionJob;
+import com.sj.voicebook.transcription.domain.TranscriptionPriority;
+import com.sj.voicebook.transcription.domain.TranscriptionStatus;
+import com.sj.voicebook.transcription.dto.application.SttRequest;
+import com.sj.voicebook.transcription.dto.application.SttResult;
+import com.sj.voicebook.transcription.repository.TranscriptionJobRepository;
+import com.sj.voicebook.transcription.service.impl.StubSttEngine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * PostgreSQL에서 실제 선점 쿼리(SKIP LOCKED)로 worker를 돌려 우선순위, micro-batch, 재시도, lease 재선점을 확인
+ * 엔진은 StubSttEngine, 변환은 호출 스레드에서 바로 실행한다. Docker가 없는 환경에서는 건너뛴다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+class TranscriptionWorkerTest {
+
+    private static final long SHORT_CLIP_MS = 5_000;
+    private static final long LONG_CLIP_MS = 60_000;
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private TranscriptionJobRepository transcriptionJobRepository;
+
+    @Autowired
+    private RecordingRepository recordingRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private S3Client s3Client;
+
+    @BeforeEach
+    void setUp() {
+        transcriptionJobRepository.deleteAll();
+        recordingRepository.deleteAll();
+        s3Client = mock(S3Client.class);
+        when(s3Client.getObjectAsBytes(any(GetObjectRequest.class))).thenAnswer(invocation -> {
+            GetObjectRequest request = invocation.getArgument(0);
+            return ResponseBytes.fromByteArray(GetObjectResponse.builder().build(),
+                    request.key().getBytes(StandardCharsets.UTF_8));
+        });
+    }
+
+    @Test
+    void claimsInteractiveJobsBeforeBackfillInSubmissionOrder() {
+        Long backfill1 = job(TranscriptionPriority.BACKFILL, LONG_CLIP_MS);
+        Long backfill2 = job(TranscriptionPriority.BACKFILL, LONG_CLIP_MS);
+        Long interactive1 = job(TranscriptionPriority.INTERACTIVE, LONG_CLIP_MS);
+        Long interactive2 = job(TranscriptionPriority.INTERACTIVE, LONG_CLIP_MS);
+        RecordingEngine engine = new RecordingEngine();
+
+        worker(engine, 1, 1, Duration.ofMinutes(10)).poll();
+
+        assertThat(engine.batches).containsExactly(
+                List.of(interactive1), List.of(interactive2), List.of(backfill1), List.of(backfill2));
+        assertThat(transcriptionJobRepository.countByStatus(TranscriptionStatus.COMPLETED)).isEqualTo(4);
+    }
+
+    @Test
+    void batchesShortClipsAndTranscribesLongClipsAlone() {
+        Long short1 = job(TranscriptionPriority.INTERACTIVE, SHORT_CLIP_MS);
+        Long long1 = job(TranscriptionPriority.INTERACTIVE, LONG_CLIP_MS);
+        Long short2 = job(TranscriptionPriority.INTERACTIVE, SHORT_CLIP_MS);
+        Long short3 = job(TranscriptionPriority.INTERACTIVE, SHORT_CLIP_MS);
+        RecordingEngine engine = new RecordingEngine();
+
+        worker(engine, 32, 4, Duration.ofMinutes(10)).poll();
+
+        assertThat(engine.batches).containsExactly(List.of(long1), List.of(short1, short2, short3));
+        assertThat(transcriptionJobRepository.findAll())
+                .allSatisfy(job -> {
+                    assertThat(job.getStatus()).isEqualTo(TranscriptionStatus.COMPLETED);
+                    assertThat(job.getTranscript()).startsWith("segment-0-");
+                });
+    }
+
+    @Test
+    void retriesFailedJobUntilItSucceeds() {
+        Long jobId = job(TranscriptionPriority.INTERACTIVE, SHORT_CLIP_MS);
+        RecordingEngine engine = new RecordingEngine();
+        engine.failuresLeft.set(1);
+
+        worker(engine, 32, 4, Duration.ofMinutes(10)).poll();
+
+        TranscriptionJob job = transcriptionJobRepository.findById(jobId).orElseThrow();
+        assertThat(engine.batches).hasSize(2);
+        assertThat(job.getStatus()).isEqualTo(TranscriptionStatus.COMPLETED);
+        assertThat(job.getAttempts()).isEqualTo(2);
+        assertThat(job.getLastError()).isNull();
+    }
+
+    @Test
+    void marksJobFailedAfterMaxAttempts() {
+        Long jobId = job(TranscriptionPriority.INTERACTIVE, SHORT_CLIP_MS);
+        RecordingEngine engine = new RecordingEngine();
+        engine.failuresLeft.set(Integer.MAX_VALUE);
+
+        worker(engine, 32, 4, Duration.ofMinutes(10)).poll();
+
+        TranscriptionJob job = transcriptionJobRepository.findById(jobId).orElseThrow();
+        assertThat(engine.batches).hasSize(3);
+        assertThat(job.getStatus()).isEqualTo(TranscriptionStatus.FAILED);
+        assertThat(job.getAttempts()).isEqualTo(3);
+        assertThat(job.getLastError()).isEqualTo("engine unavailable");
+        assertThat(job.getCompletedAt()).isNotNull();
+    }
+
+    @Test
+    void staleWorkerDoesNotOverwriteReclaimedJob() {
+        Long jobId = job(TranscriptionPriority.INTERACTIVE, LONG_CLIP_MS);
+
+        // 변환 도중 lease가 끝나 다른 worker가 다시 선점했고, 그 worker는 아직 변환 중이다.
+        RecordingEngine staleEngine = new RecordingEngine();
+        staleEngine.beforeReturn = () -> {
+            sleep(20);
+            transactionTemplate().executeWithoutResult(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                transcriptionJobRepository.findClaimable(now, 1)
+                        .forEach(job -> job.markRunning(now.plusMinutes(10)));
+            });
+        };
+        worker(staleEngine, 32, 4, Duration.ofMillis(1)).poll();
+
+        TranscriptionJob job = transcriptionJobRepository.findById(jobId).orElseThrow();
+        assertThat(staleEngine.batches).containsExactly(List.of(jobId));
+        assertThat(job.getStatus()).isEqualTo(TranscriptionStatus.RUNNING);
+        assertThat(job.getAttempts()).isEqualTo(2);
+        assertThat(job.getTranscript()).isNull();
+    }
+
+    @Test
+    void reclaimsJobWhoseLeaseExpired() {
+        Long jobId = job(TranscriptionPriority.INTERACTIVE, LONG_CLIP_MS);
+        transactionTemplate().executeWithoutResult(status -> transcriptionJobRepository.findById(jobId)
+                .orElseThrow()
+                .markRunning(LocalDateTime.now().minusSeconds(1)));
+        RecordingEngine engine = new RecordingEngine();
+
+        worker(engine, 32, 4, Duration.ofMinutes(10)).poll();
+
+        TranscriptionJob job = transcriptionJobRepository.findById(jobId).orElseThrow();
+        assertThat(engine.batches).containsExactly(List.of(jobId));
+        assertThat(job.getStatus()).isEqualTo(TranscriptionStatus.COMPLETED);
+        assertThat(job.getAttempts()).isEqualTo(2);
+    }
+
+    private Long job(TranscriptionPriority priority, long durationMs) {
+        Recording recording = Recording.create(1L, "recordings/" + System.nanoTime(), "audio/wav", 1024);
+        recording.markProcessed(recording.getObjectKey() + ".speech.opus", 512, durationMs, durationMs,
+                "{\"segments\":[]}");
+        Long recordingId = recordingRepository.save(recording).getId();
+        return transcriptionJobRepository.save(TranscriptionJob.create(1L, recordingId, priority)).getId();
+    }
+
+    private TranscriptionWorker worker(SttEngine engine, int claimSize, int maxInFlightBatches, Duration lease) {
+        return new TranscriptionWorker(
+                transcriptionJobRepository,
+                recordingRepository,
+                mock(TranscriptionSubscriptions.class),
+                engine,
+                s3Client,
+                inlineExecutor(),
+                transactionTemplate(),
+                new ObjectMapper(),
+                new SimpleMeterRegistry(),
+                "voicebook-test",
+                claimSize,
+                maxInFlightBatches,
+                Duration.ofSeconds(30),
+                Duration.ofMinutes(2),
+                3,
+                lease);
+    }
+
+    private TransactionTemplate transactionTemplate() {
+        return new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 제출한 batch를 호출 스레드에서 바로 실행 - poll()이 끝나면 결과 기록까지 끝나 있다.
+     */
+    private static ThreadPoolTaskExecutor inlineExecutor() {
+        return new ThreadPoolTaskExecutor() {
+            @Override
+            public void execute(Runnable task) {
+                task.run();
+            }
+        };
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * StubSttEngine에 호출 기록과 실패 주입을 더한 엔진
+     */
+    private static class RecordingEngine implements SttEngine {
+
+        private final StubSttEngine delegate = new StubSttEngine();
+        private final List<List<Long>> batches = new ArrayList<>();
+        private final AtomicInteger failuresLeft = new AtomicInteger();
+        private Runnable beforeReturn = () -> {
+        };
+
+        @Override
+        public List<SttResult> transcribe(List<SttRequest> requests) {
+            batches.add(requests.stream().map(SttRequest::jobId).toList());
+            if (failuresLeft.getAndDecrement() > 0) {
+                throw new IllegalStateException("engine unavailable");
+            }
+            List<SttResult> results = delegate.transcribe(requests);
+            beforeReturn.run();
+            return results;
+        }
+
+        @Override
+        public int maxBatchSize() {
+            return delegate.maxBatchSize();
+        }
+    }
+}